@@ -0,0 +1,41 @@
+package com.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    public void testAmountRoundTrip() {
+        Money money = new Money(new BigDecimal("50.5"));
+        assertEquals(5050L, money.getMinorUnits());
+        assertEquals(new BigDecimal("50.50"), money.getAmount());
+        assertEquals(money, new Money(new BigDecimal("50.50")));
+    }
+
+    @Test
+    public void testArithmetic() {
+        Money price = new Money(new BigDecimal("12.34"));
+        assertEquals(new Money(new BigDecimal("37.02")), price.multiply(3));
+        assertEquals(new Money(new BigDecimal("24.68")), price.add(price));
+        assertEquals(Money.ZERO, price.subtract(price));
+        assertTrue(price.isGreaterThanZero());
+        assertTrue(price.isGreaterThan(Money.ZERO));
+    }
+
+    @Test
+    public void testSubCentAmountIsRejected() {
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("10.005")));
+    }
+
+    @Test
+    public void testOverflowIsRejected() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinorUnits(1L)));
+        assertThrows(ArithmeticException.class, () -> max.multiply(2));
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("1e20")));
+    }
+}
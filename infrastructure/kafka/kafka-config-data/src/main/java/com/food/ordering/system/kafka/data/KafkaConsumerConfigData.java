@@ -14,6 +14,8 @@ public class KafkaConsumerConfigData {
     private String autoOffsetReset;
     private String specificAvroReaderKey;
     private String specificAvroReader;
+    private String avroRecordReuseKey;
+    private String avroRecordReuse;
     private Boolean batchListener;
     private Boolean autoStartup;
     private Integer concurrencyLevel;
@@ -24,4 +26,10 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Integer processingThreads;
+    private Integer maxProcessingAttempts;
+    private String deadLetterTopicSuffix;
+    private Long retryBackoffInitialMs;
+    private Double retryBackoffMultiplier;
+    private Long retryBackoffMaxMs;
 }
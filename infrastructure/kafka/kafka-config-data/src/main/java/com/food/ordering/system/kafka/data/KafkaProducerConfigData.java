@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-producer-config")
@@ -17,4 +19,24 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
-}
\ No newline at end of file
+    private Boolean enableIdempotence;
+    private Integer maxInFlightRequestsPerConnection;
+    private Long bufferMemory;
+    private Long maxBlockMs;
+    private Double payloadLogSampleRate;
+    private String avroUuidEncoding;
+    private Map<String, Profile> profiles;
+    private Map<String, String> topicProfiles;
+
+    @Data
+    public static class Profile {
+        private String compressionType;
+        private String acks;
+        private Integer batchSizeBoostFactor;
+        private Integer lingerMs;
+        private Boolean enableIdempotence;
+        private Integer maxInFlightRequestsPerConnection;
+        private Long bufferMemory;
+        private Long maxBlockMs;
+    }
+}
@@ -5,6 +5,6 @@ import org.apache.avro.specific.SpecificRecord;
 import java.util.List;
 
 public interface KafkaConsumer<T extends SpecificRecord> {
-    void receive(List<T> messages, List<Long> keys, List<Integer> partitions, List<Long> offsets);
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets);
 }
 
@@ -0,0 +1,11 @@
+package com.food.ordering.system.kafka.consumer;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+
+import java.util.List;
+
+public interface ManualCommitKafkaConsumer<T extends SpecificRecord> {
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets,
+                 Consumer<?, ?> consumer);
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.kafka.consumer.processor;
+
+public interface DeadLetterHandler {
+    void handle(String deadLetterTopic, String key, Object message, Exception cause);
+}
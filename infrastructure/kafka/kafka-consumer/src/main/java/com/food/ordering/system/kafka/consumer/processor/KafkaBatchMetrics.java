@@ -0,0 +1,51 @@
+package com.food.ordering.system.kafka.consumer.processor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class KafkaBatchMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> batchTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> deadLetterCounters = new ConcurrentHashMap<>();
+
+    public KafkaBatchMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public void recordBatch(String topicName, int batchSize, long startNanos) {
+        batchSizes.computeIfAbsent(topicName, topic -> DistributionSummary.builder("kafka.consumer.batch.size")
+                        .description("Number of records handed to the listener per poll")
+                        .tag("topic", topic)
+                        .register(meterRegistry))
+                .record(batchSize);
+        batchTimers.computeIfAbsent(topicName, topic -> Timer.builder("kafka.consumer.batch.processing")
+                        .description("Time to process and commit a poll batch")
+                        .tag("topic", topic)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDeadLetter(String topicName) {
+        deadLetterCounters.computeIfAbsent(topicName, topic -> Counter.builder("kafka.consumer.dead.letters")
+                        .description("Records sent to the dead letter topic after exhausting their attempts")
+                        .tag("topic", topic)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
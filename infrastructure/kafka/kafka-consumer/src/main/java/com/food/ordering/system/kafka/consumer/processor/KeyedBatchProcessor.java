@@ -0,0 +1,308 @@
+package com.food.ordering.system.kafka.consumer.processor;
+
+import com.food.ordering.system.kafka.data.KafkaConsumerConfigData;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Splits a poll batch into buckets by message key and hands each bucket to a worker thread.
+ * Messages with the same key always land in the same bucket in offset order, so they are handled
+ * sequentially while different keys run in parallel. Offsets are committed per partition up to the
+ * lowest failed record, and partitions with failures are re-seeked to it after a back-off. A failed
+ * bucket is re-run record by record to find the record that actually fails, and only that record is
+ * handed to the DeadLetterHandler and skipped once it has failed max-processing-attempts times.
+ */
+@Slf4j
+@Component
+public class KeyedBatchProcessor {
+
+    private final int workerCount;
+
+    private final ExecutorService executorService;
+
+    private final KafkaBatchMetrics kafkaBatchMetrics;
+
+    private final DeadLetterHandler deadLetterHandler;
+
+    private final int maxProcessingAttempts;
+
+    private final String deadLetterTopicSuffix;
+
+    private final BackOff retryBackOff;
+
+    private final Map<TopicPartition, FailedRecord> failedRecords = new ConcurrentHashMap<>();
+
+    public KeyedBatchProcessor(KafkaConsumerConfigData kafkaConsumerConfigData,
+                               KafkaBatchMetrics kafkaBatchMetrics,
+                               DeadLetterHandler deadLetterHandler) {
+        this.kafkaBatchMetrics = kafkaBatchMetrics;
+        this.deadLetterHandler = deadLetterHandler;
+        this.workerCount = kafkaConsumerConfigData.getProcessingThreads();
+        this.maxProcessingAttempts = kafkaConsumerConfigData.getMaxProcessingAttempts();
+        this.deadLetterTopicSuffix = kafkaConsumerConfigData.getDeadLetterTopicSuffix();
+        ExponentialBackOff exponentialBackOff = new ExponentialBackOff(
+                kafkaConsumerConfigData.getRetryBackoffInitialMs(),
+                kafkaConsumerConfigData.getRetryBackoffMultiplier());
+        exponentialBackOff.setMaxInterval(kafkaConsumerConfigData.getRetryBackoffMaxMs());
+        this.retryBackOff = exponentialBackOff;
+        this.executorService = Executors.newFixedThreadPool(workerCount,
+                new CustomizableThreadFactory("keyed-batch-worker-"));
+    }
+
+    public <T> void process(String topic,
+                            List<T> messages,
+                            List<Integer> partitions,
+                            List<Long> offsets,
+                            Function<T, String> keyFunction,
+                            java.util.function.Consumer<List<T>> handler,
+                            Consumer<?, ?> consumer) {
+        long startNanos = System.nanoTime();
+        List<List<Integer>> buckets = createBuckets(messages, keyFunction);
+        Exception[] failures = new Exception[messages.size()];
+        boolean[] poisoned = new boolean[messages.size()];
+        List<List<Integer>> failedBuckets = new ArrayList<>();
+        List<Integer> activeBuckets = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            if (!buckets.get(i).isEmpty()) {
+                activeBuckets.add(i);
+            }
+        }
+
+        if (activeBuckets.size() == 1) {
+            List<Integer> bucket = buckets.get(activeBuckets.get(0));
+            try {
+                handler.accept(messagesOf(messages, bucket));
+            } catch (RuntimeException e) {
+                log.warn("Processing of {} messages from topic {} failed, retrying them one by one: {}",
+                        bucket.size(), topic, e.getMessage());
+                failedBuckets.add(bucket);
+            }
+        } else {
+            Map<Integer, Future<?>> futures = new HashMap<>();
+            activeBuckets.forEach(bucketIndex -> futures.put(bucketIndex, executorService.submit(() ->
+                    handler.accept(messagesOf(messages, buckets.get(bucketIndex))))));
+            boolean interrupted = false;
+            for (Map.Entry<Integer, Future<?>> entry : futures.entrySet()) {
+                List<Integer> bucket = buckets.get(entry.getKey());
+                while (true) {
+                    try {
+                        entry.getValue().get();
+                        break;
+                    } catch (ExecutionException e) {
+                        log.warn("Processing of {} messages from topic {} failed, retrying them one by one: {}",
+                                bucket.size(), topic, e.getCause().getMessage());
+                        failedBuckets.add(bucket);
+                        break;
+                    } catch (InterruptedException e) {
+                        // the bucket keeps running, so its keys must not be re-seeked before it completes
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        failedBuckets.forEach(bucket ->
+                isolateFailures(topic, messages, bucket, keyFunction, handler, failures, poisoned));
+        commitOffsets(topic, messages, partitions, offsets, keyFunction, failures, poisoned, consumer);
+        kafkaBatchMetrics.recordBatch(topic, messages.size(), startNanos);
+    }
+
+    /**
+     * Re-runs a failed bucket one record at a time, so only the record that throws on its own is marked as
+     * poisoned. Later records with the same key are held back behind it to keep their order.
+     */
+    private <T> void isolateFailures(String topic,
+                                     List<T> messages,
+                                     List<Integer> bucket,
+                                     Function<T, String> keyFunction,
+                                     java.util.function.Consumer<List<T>> handler,
+                                     Exception[] failures,
+                                     boolean[] poisoned) {
+        Map<String, Exception> failedKeys = new HashMap<>();
+        for (Integer index : bucket) {
+            T message = messages.get(index);
+            String key = keyFunction.apply(message);
+            Exception keyFailure = failedKeys.get(key);
+            if (keyFailure != null) {
+                failures[index] = keyFailure;
+                continue;
+            }
+            try {
+                handler.accept(List.of(message));
+            } catch (RuntimeException e) {
+                log.error("Processing of message with key {} from topic {} failed", key, topic, e);
+                failures[index] = e;
+                poisoned[index] = true;
+                failedKeys.put(key, e);
+            }
+        }
+    }
+
+    private <T> List<List<Integer>> createBuckets(List<T> messages, Function<T, String> keyFunction) {
+        List<List<Integer>> buckets = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            String key = keyFunction.apply(messages.get(i));
+            buckets.get(Math.floorMod(key == null ? 0 : key.hashCode(), workerCount)).add(i);
+        }
+        return buckets;
+    }
+
+    private <T> List<T> messagesOf(List<T> messages, List<Integer> bucket) {
+        List<T> bucketMessages = new ArrayList<>(bucket.size());
+        bucket.forEach(index -> bucketMessages.add(messages.get(index)));
+        return bucketMessages;
+    }
+
+    private <T> void commitOffsets(String topic,
+                                   List<T> messages,
+                                   List<Integer> partitions,
+                                   List<Long> offsets,
+                                   Function<T, String> keyFunction,
+                                   Exception[] failures,
+                                   boolean[] poisoned,
+                                   Consumer<?, ?> consumer) {
+        Map<Integer, Long> firstOffsets = new HashMap<>();
+        Map<Integer, Long> nextOffsets = new HashMap<>();
+        Map<Integer, TreeMap<Long, Integer>> failedIndexes = new HashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            Integer partition = partitions.get(i);
+            Long offset = offsets.get(i);
+            firstOffsets.merge(partition, offset, Math::min);
+            nextOffsets.merge(partition, offset + 1, Math::max);
+            if (failures[i] != null) {
+                failedIndexes.computeIfAbsent(partition, p -> new TreeMap<>()).put(offset, i);
+            }
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> commitOffsets = new HashMap<>();
+        long backOffMs = 0;
+        for (Map.Entry<Integer, Long> entry : nextOffsets.entrySet()) {
+            Integer partition = entry.getKey();
+            TopicPartition topicPartition = new TopicPartition(topic, partition);
+            TreeMap<Long, Integer> partitionFailures = failedIndexes.get(partition);
+            if (partitionFailures == null) {
+                failedRecords.remove(topicPartition);
+                commitOffsets.put(topicPartition, new OffsetAndMetadata(entry.getValue()));
+                continue;
+            }
+            Map.Entry<Long, Integer> lowestFailure = partitionFailures.firstEntry();
+            Long lowestFailedOffset = lowestFailure.getKey();
+            FailedRecord failedRecord = failedRecords.compute(topicPartition, (tp, previous) ->
+                    previous != null && previous.offset == lowestFailedOffset ?
+                            previous.nextAttempt() : new FailedRecord(lowestFailedOffset, retryBackOff.start()));
+            int lowestFailedIndex = lowestFailure.getValue();
+            if (failedRecord.attempts >= maxProcessingAttempts && poisoned[lowestFailedIndex] && deadLetter(topic,
+                    messages.get(lowestFailedIndex), keyFunction, failures[lowestFailedIndex], failedRecord)) {
+                failedRecords.remove(topicPartition);
+                Long nextFailedOffset = partitionFailures.higherKey(lowestFailedOffset);
+                if (nextFailedOffset == null) {
+                    commitOffsets.put(topicPartition, new OffsetAndMetadata(entry.getValue()));
+                } else {
+                    commitOffsets.put(topicPartition, new OffsetAndMetadata(nextFailedOffset));
+                    consumer.seek(topicPartition, nextFailedOffset);
+                    log.warn("Partition {} is re-seeked to offset {}", topicPartition, nextFailedOffset);
+                }
+            } else {
+                if (lowestFailedOffset > firstOffsets.get(partition)) {
+                    commitOffsets.put(topicPartition, new OffsetAndMetadata(lowestFailedOffset));
+                }
+                consumer.seek(topicPartition, lowestFailedOffset);
+                backOffMs = Math.max(backOffMs, failedRecord.nextBackOff());
+                log.warn("Partition {} is re-seeked to offset {} after attempt {} of {}", topicPartition,
+                        lowestFailedOffset, failedRecord.attempts, maxProcessingAttempts);
+            }
+        }
+        if (!commitOffsets.isEmpty()) {
+            consumer.commitSync(commitOffsets);
+        }
+        if (backOffMs > 0) {
+            backOff(backOffMs);
+        }
+    }
+
+    private <T> boolean deadLetter(String topic,
+                                   T message,
+                                   Function<T, String> keyFunction,
+                                   Exception cause,
+                                   FailedRecord failedRecord) {
+        String deadLetterTopic = topic + deadLetterTopicSuffix;
+        try {
+            deadLetterHandler.handle(deadLetterTopic, keyFunction.apply(message), message, cause);
+            log.error("Record at offset {} of topic {} failed {} times and is sent to {}", failedRecord.offset,
+                    topic, failedRecord.attempts, deadLetterTopic);
+            kafkaBatchMetrics.recordDeadLetter(topic);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Could not send record at offset {} of topic {} to {}", failedRecord.offset, topic,
+                    deadLetterTopic, e);
+            return false;
+        }
+    }
+
+    private void backOff(long backOffMs) {
+        try {
+            Thread.sleep(backOffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Shutting down keyed batch processor");
+        executorService.shutdown();
+    }
+
+    private static final class FailedRecord {
+
+        private final long offset;
+
+        private final int attempts;
+
+        private final BackOffExecution backOffExecution;
+
+        private FailedRecord(long offset, BackOffExecution backOffExecution) {
+            this(offset, 1, backOffExecution);
+        }
+
+        private FailedRecord(long offset, int attempts, BackOffExecution backOffExecution) {
+            this.offset = offset;
+            this.attempts = attempts;
+            this.backOffExecution = backOffExecution;
+        }
+
+        private FailedRecord nextAttempt() {
+            return new FailedRecord(offset, attempts + 1, backOffExecution);
+        }
+
+        private long nextBackOff() {
+            return Math.max(0, backOffExecution.nextBackOff());
+        }
+    }
+}
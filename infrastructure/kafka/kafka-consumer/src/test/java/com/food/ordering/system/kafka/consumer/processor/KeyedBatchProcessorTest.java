@@ -0,0 +1,188 @@
+package com.food.ordering.system.kafka.consumer.processor;
+
+import com.food.ordering.system.kafka.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyedBatchProcessorTest {
+
+    private static final String TOPIC = "payment-response";
+
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+
+    private final List<String> deadLetters = new CopyOnWriteArrayList<>();
+
+    private KeyedBatchProcessor keyedBatchProcessor;
+    private MockConsumer<String, String> consumer;
+
+    @BeforeEach
+    public void init() {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setProcessingThreads(4);
+        kafkaConsumerConfigData.setMaxProcessingAttempts(2);
+        kafkaConsumerConfigData.setDeadLetterTopicSuffix(".DLT");
+        kafkaConsumerConfigData.setRetryBackoffInitialMs(1L);
+        kafkaConsumerConfigData.setRetryBackoffMultiplier(2.0);
+        kafkaConsumerConfigData.setRetryBackoffMaxMs(10L);
+        keyedBatchProcessor = new KeyedBatchProcessor(kafkaConsumerConfigData,
+                new KafkaBatchMetrics(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+                (deadLetterTopic, key, message, cause) -> deadLetters.add(deadLetterTopic + "/" + message));
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(partition0, partition1));
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(partition0, 0L);
+        beginningOffsets.put(partition1, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+    }
+
+    @AfterEach
+    public void close() {
+        keyedBatchProcessor.close();
+    }
+
+    @Test
+    public void testMessagesWithSameKeyKeepOrder() {
+        List<String> messages = List.of("a:1", "b:1", "a:2", "c:1", "a:3", "b:2");
+        Map<String, List<String>> processed = new ConcurrentHashMap<>();
+
+        keyedBatchProcessor.process(TOPIC, messages, List.of(0, 0, 0, 1, 1, 1), List.of(10L, 11L, 12L, 20L, 21L, 22L),
+                KeyedBatchProcessorTest::key,
+                batch -> batch.forEach(message ->
+                        processed.computeIfAbsent(key(message), k -> new CopyOnWriteArrayList<>()).add(message)),
+                consumer);
+
+        assertEquals(List.of("a:1", "a:2", "a:3"), processed.get("a"));
+        assertEquals(List.of("b:1", "b:2"), processed.get("b"));
+        assertEquals(new OffsetAndMetadata(13L), consumer.committed(Set.of(partition0)).get(partition0));
+        assertEquals(new OffsetAndMetadata(23L), consumer.committed(Set.of(partition1)).get(partition1));
+    }
+
+    @Test
+    public void testOffsetsAreCommittedUpToLowestFailedRecord() {
+        List<String> messages = List.of("a:1", "b:1", "a:2", "b:2");
+
+        keyedBatchProcessor.process(TOPIC, messages, List.of(0, 0, 1, 1), List.of(10L, 11L, 20L, 21L),
+                KeyedBatchProcessorTest::key,
+                batch -> {
+                    if (key(batch.get(0)).equals("b")) {
+                        throw new IllegalStateException("Processing failed");
+                    }
+                },
+                consumer);
+
+        assertEquals(new OffsetAndMetadata(11L), consumer.committed(Set.of(partition0)).get(partition0));
+        assertEquals(11L, consumer.position(partition0));
+        assertEquals(21L, consumer.position(partition1));
+        assertEquals(new OffsetAndMetadata(21L), consumer.committed(Set.of(partition1)).get(partition1));
+    }
+
+    @Test
+    public void testFailedRecordIsDeadLetteredAfterMaxAttempts() {
+        List<String> messages = List.of("a:1", "b:1", "a:2");
+        java.util.function.Consumer<List<String>> failingHandler = batch -> {
+            if (key(batch.get(0)).equals("b")) {
+                throw new IllegalStateException("Processing failed");
+            }
+        };
+
+        keyedBatchProcessor.process(TOPIC, messages, List.of(0, 0, 0), List.of(10L, 11L, 12L),
+                KeyedBatchProcessorTest::key, failingHandler, consumer);
+
+        assertTrue(deadLetters.isEmpty());
+        assertEquals(11L, consumer.position(partition0));
+
+        keyedBatchProcessor.process(TOPIC, List.of("b:1", "a:2"), List.of(0, 0), List.of(11L, 12L),
+                KeyedBatchProcessorTest::key, failingHandler, consumer);
+
+        assertEquals(List.of(TOPIC + ".DLT/b:1"), deadLetters);
+        assertEquals(new OffsetAndMetadata(13L), consumer.committed(Set.of(partition0)).get(partition0));
+    }
+
+    @Test
+    public void testOnlyPoisonRecordOfFailedBucketIsDeadLettered() {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setProcessingThreads(1);
+        kafkaConsumerConfigData.setMaxProcessingAttempts(2);
+        kafkaConsumerConfigData.setDeadLetterTopicSuffix(".DLT");
+        kafkaConsumerConfigData.setRetryBackoffInitialMs(1L);
+        kafkaConsumerConfigData.setRetryBackoffMultiplier(2.0);
+        kafkaConsumerConfigData.setRetryBackoffMaxMs(10L);
+        KeyedBatchProcessor singleBucketProcessor = new KeyedBatchProcessor(kafkaConsumerConfigData,
+                new KafkaBatchMetrics(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+                (deadLetterTopic, key, message, cause) -> deadLetters.add(deadLetterTopic + "/" + message));
+        List<String> processed = new CopyOnWriteArrayList<>();
+        java.util.function.Consumer<List<String>> poisonHandler = batch -> {
+            if (batch.contains("b:1")) {
+                throw new IllegalStateException("Poison record");
+            }
+            processed.addAll(batch);
+        };
+        try {
+            singleBucketProcessor.process(TOPIC, List.of("a:1", "b:1", "c:1", "d:1"), List.of(0, 0, 1, 1),
+                    List.of(10L, 11L, 20L, 21L), KeyedBatchProcessorTest::key, poisonHandler, consumer);
+
+            assertTrue(deadLetters.isEmpty());
+            assertEquals(List.of("a:1", "c:1", "d:1"), processed);
+            assertEquals(11L, consumer.position(partition0));
+            assertEquals(new OffsetAndMetadata(22L), consumer.committed(Set.of(partition1)).get(partition1));
+
+            singleBucketProcessor.process(TOPIC, List.of("b:1"), List.of(0), List.of(11L),
+                    KeyedBatchProcessorTest::key, poisonHandler, consumer);
+        } finally {
+            singleBucketProcessor.close();
+        }
+
+        assertEquals(List.of(TOPIC + ".DLT/b:1"), deadLetters);
+        assertEquals(new OffsetAndMetadata(12L), consumer.committed(Set.of(partition0)).get(partition0));
+    }
+
+    @Test
+    public void testFailedRecordIsRetriedWhenDeadLetterFails() {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setProcessingThreads(1);
+        kafkaConsumerConfigData.setMaxProcessingAttempts(1);
+        kafkaConsumerConfigData.setDeadLetterTopicSuffix(".DLT");
+        kafkaConsumerConfigData.setRetryBackoffInitialMs(1L);
+        kafkaConsumerConfigData.setRetryBackoffMultiplier(2.0);
+        kafkaConsumerConfigData.setRetryBackoffMaxMs(10L);
+        KeyedBatchProcessor failingDeadLetterProcessor = new KeyedBatchProcessor(kafkaConsumerConfigData,
+                new KafkaBatchMetrics(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+                (deadLetterTopic, key, message, cause) -> {
+                    throw new IllegalStateException("Dead letter topic is not available");
+                });
+        try {
+            failingDeadLetterProcessor.process(TOPIC, List.of("a:1", "a:2"), List.of(0, 0), List.of(10L, 11L),
+                    KeyedBatchProcessorTest::key,
+                    batch -> {
+                        throw new IllegalStateException("Processing failed");
+                    },
+                    consumer);
+        } finally {
+            failingDeadLetterProcessor.close();
+        }
+
+        assertEquals(10L, consumer.position(partition0));
+        assertNull(consumer.committed(Set.of(partition0)).get(partition0));
+    }
+
+    private static String key(String message) {
+        return message.substring(0, message.indexOf(':'));
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.kafka.order.avro.converter;
+
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversions between {@link UUID} and the 16 byte {@link Uuid} fixed used for ids in the kafka-model schemas.
+ */
+public final class UuidConverter {
+
+    private static final int UUID_SIZE = 16;
+
+    private UuidConverter() {
+    }
+
+    public static Uuid toAvro(UUID uuid) {
+        byte[] bytes = new byte[UUID_SIZE];
+        ByteBuffer.wrap(bytes)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return new Uuid(bytes);
+    }
+
+    public static Uuid toAvro(String uuid) {
+        return toAvro(UUID.fromString(uuid));
+    }
+
+    public static UUID fromAvro(Uuid uuid) {
+        ByteBuffer buffer = ByteBuffer.wrap(uuid.bytes());
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 1425163749928760031L;
+  private static final long serialVersionUID = 3373210279205073883L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentOrderStatus\",\"symbols\":[\"PENDING\",\"CANCELLED\"]}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"fixed\",\"name\":\"Uuid\",\"doc\":\"UUID as 16 big-endian bytes, most significant bits first\",\"size\":16}},{\"name\":\"sagaId\",\"type\":\"Uuid\"},{\"name\":\"customerId\",\"type\":\"Uuid\"},{\"name\":\"orderId\",\"type\":\"Uuid\"},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentOrderStatus\",\"symbols\":[\"PENDING\",\"CANCELLED\"]}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -27,10 +27,10 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   }
 
   private static final BinaryMessageEncoder<PaymentRequestAvroModel> ENCODER =
-      new BinaryMessageEncoder<PaymentRequestAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
 
   private static final BinaryMessageDecoder<PaymentRequestAvroModel> DECODER =
-      new BinaryMessageDecoder<PaymentRequestAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
 
   /**
    * Return the BinaryMessageEncoder instance used by this class.
@@ -54,7 +54,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
    */
   public static BinaryMessageDecoder<PaymentRequestAvroModel> createDecoder(SchemaStore resolver) {
-    return new BinaryMessageDecoder<PaymentRequestAvroModel>(MODEL$, SCHEMA$, resolver);
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
   }
 
   /**
@@ -77,13 +77,13 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     return DECODER.decode(b);
   }
 
-  private String id;
-  private String sagaId;
-  private String customerId;
-  private String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid customerId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
-  private PaymentOrderStatus paymentOrderStatus;
+  private com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -102,7 +102,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * @param createdAt The new value for createdAt
    * @param paymentOrderStatus The new value for paymentOrderStatus
    */
-  public PaymentRequestAvroModel(String id, String sagaId, String customerId, String orderId, java.math.BigDecimal price, java.time.Instant createdAt, PaymentOrderStatus paymentOrderStatus) {
+  public PaymentRequestAvroModel(com.food.ordering.system.kafka.order.avro.model.Uuid id, com.food.ordering.system.kafka.order.avro.model.Uuid sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid customerId, com.food.ordering.system.kafka.order.avro.model.Uuid orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus) {
     this.id = id;
     this.sagaId = sagaId;
     this.customerId = customerId;
@@ -112,10 +112,15 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     this.paymentOrderStatus = paymentOrderStatus;
   }
 
-  public SpecificData getSpecificData() { return MODEL$; }
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
   public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
   // Used by DatumWriter.  Applications should not call.
-  public Object get(int field$) {
+  @Override
+  public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
     case 1: return sagaId;
@@ -146,16 +151,17 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   }
 
   // Used by DatumReader.  Applications should not call.
+  @Override
   @SuppressWarnings(value="unchecked")
-  public void put(int field$, Object value$) {
+  public void put(int field$, java.lang.Object value$) {
     switch (field$) {
-    case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: customerId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
+    case 0: id = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 1: sagaId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: customerId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 3: orderId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
     case 4: price = (java.math.BigDecimal)value$; break;
     case 5: createdAt = (java.time.Instant)value$; break;
-    case 6: paymentOrderStatus = (PaymentOrderStatus)value$; break;
+    case 6: paymentOrderStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -164,7 +170,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Gets the value of the 'id' field.
    * @return The value of the 'id' field.
    */
-  public String getId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
     return id;
   }
 
@@ -173,7 +179,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Sets the value of the 'id' field.
    * @param value the value to set.
    */
-  public void setId(String value) {
+  public void setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.id = value;
   }
 
@@ -181,7 +187,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
    */
-  public String getSagaId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
     return sagaId;
   }
 
@@ -190,7 +196,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Sets the value of the 'sagaId' field.
    * @param value the value to set.
    */
-  public void setSagaId(String value) {
+  public void setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.sagaId = value;
   }
 
@@ -198,7 +204,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Gets the value of the 'customerId' field.
    * @return The value of the 'customerId' field.
    */
-  public String getCustomerId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerId() {
     return customerId;
   }
 
@@ -207,7 +213,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Sets the value of the 'customerId' field.
    * @param value the value to set.
    */
-  public void setCustomerId(String value) {
+  public void setCustomerId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.customerId = value;
   }
 
@@ -215,7 +221,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
    */
-  public String getOrderId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
     return orderId;
   }
 
@@ -224,7 +230,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Sets the value of the 'orderId' field.
    * @param value the value to set.
    */
-  public void setOrderId(String value) {
+  public void setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.orderId = value;
   }
 
@@ -266,7 +272,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Gets the value of the 'paymentOrderStatus' field.
    * @return The value of the 'paymentOrderStatus' field.
    */
-  public PaymentOrderStatus getPaymentOrderStatus() {
+  public com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus getPaymentOrderStatus() {
     return paymentOrderStatus;
   }
 
@@ -275,7 +281,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Sets the value of the 'paymentOrderStatus' field.
    * @param value the value to set.
    */
-  public void setPaymentOrderStatus(PaymentOrderStatus value) {
+  public void setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus value) {
     this.paymentOrderStatus = value;
   }
 
@@ -283,8 +289,8 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * Creates a new PaymentRequestAvroModel RecordBuilder.
    * @return A new PaymentRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder() {
-    return new Builder();
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder();
   }
 
   /**
@@ -292,11 +298,11 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * @param other The existing builder to copy.
    * @return A new PaymentRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder(Builder other) {
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder(other);
     }
   }
 
@@ -305,11 +311,11 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
    * @param other The existing instance to copy.
    * @return A new PaymentRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder(PaymentRequestAvroModel other) {
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder(other);
     }
   }
 
@@ -320,13 +326,13 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<PaymentRequestAvroModel>
     implements org.apache.avro.data.RecordBuilder<PaymentRequestAvroModel> {
 
-    private String id;
-    private String sagaId;
-    private String customerId;
-    private String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid customerId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
-    private PaymentOrderStatus paymentOrderStatus;
+    private com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus;
 
     /** Creates a new Builder */
     private Builder() {
@@ -337,7 +343,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
      * Creates a Builder by copying an existing Builder.
      * @param other The existing Builder to copy.
      */
-    private Builder(Builder other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder other) {
       super(other);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -373,7 +379,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
      * Creates a Builder by copying an existing PaymentRequestAvroModel instance
      * @param other The existing instance to copy.
      */
-    private Builder(PaymentRequestAvroModel other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel other) {
       super(SCHEMA$, MODEL$);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -409,7 +415,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Gets the value of the 'id' field.
       * @return The value.
       */
-    public String getId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
       return id;
     }
 
@@ -419,7 +425,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'id'.
       * @return This builder.
       */
-    public Builder setId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[0], value);
       this.id = value;
       fieldSetFlags()[0] = true;
@@ -439,7 +445,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'id' field.
       * @return This builder.
       */
-    public Builder clearId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearId() {
       id = null;
       fieldSetFlags()[0] = false;
       return this;
@@ -449,7 +455,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Gets the value of the 'sagaId' field.
       * @return The value.
       */
-    public String getSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
       return sagaId;
     }
 
@@ -459,7 +465,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'sagaId'.
       * @return This builder.
       */
-    public Builder setSagaId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[1], value);
       this.sagaId = value;
       fieldSetFlags()[1] = true;
@@ -479,7 +485,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'sagaId' field.
       * @return This builder.
       */
-    public Builder clearSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearSagaId() {
       sagaId = null;
       fieldSetFlags()[1] = false;
       return this;
@@ -489,7 +495,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Gets the value of the 'customerId' field.
       * @return The value.
       */
-    public String getCustomerId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerId() {
       return customerId;
     }
 
@@ -499,7 +505,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'customerId'.
       * @return This builder.
       */
-    public Builder setCustomerId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setCustomerId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[2], value);
       this.customerId = value;
       fieldSetFlags()[2] = true;
@@ -519,7 +525,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'customerId' field.
       * @return This builder.
       */
-    public Builder clearCustomerId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearCustomerId() {
       customerId = null;
       fieldSetFlags()[2] = false;
       return this;
@@ -529,7 +535,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Gets the value of the 'orderId' field.
       * @return The value.
       */
-    public String getOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
       return orderId;
     }
 
@@ -539,7 +545,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'orderId'.
       * @return This builder.
       */
-    public Builder setOrderId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[3], value);
       this.orderId = value;
       fieldSetFlags()[3] = true;
@@ -559,7 +565,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'orderId' field.
       * @return This builder.
       */
-    public Builder clearOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearOrderId() {
       orderId = null;
       fieldSetFlags()[3] = false;
       return this;
@@ -579,7 +585,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'price'.
       * @return This builder.
       */
-    public Builder setPrice(java.math.BigDecimal value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setPrice(java.math.BigDecimal value) {
       validate(fields()[4], value);
       this.price = value;
       fieldSetFlags()[4] = true;
@@ -599,7 +605,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'price' field.
       * @return This builder.
       */
-    public Builder clearPrice() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearPrice() {
       price = null;
       fieldSetFlags()[4] = false;
       return this;
@@ -619,7 +625,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'createdAt'.
       * @return This builder.
       */
-    public Builder setCreatedAt(java.time.Instant value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setCreatedAt(java.time.Instant value) {
       validate(fields()[5], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
       fieldSetFlags()[5] = true;
@@ -639,7 +645,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'createdAt' field.
       * @return This builder.
       */
-    public Builder clearCreatedAt() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearCreatedAt() {
       fieldSetFlags()[5] = false;
       return this;
     }
@@ -648,7 +654,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Gets the value of the 'paymentOrderStatus' field.
       * @return The value.
       */
-    public PaymentOrderStatus getPaymentOrderStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus getPaymentOrderStatus() {
       return paymentOrderStatus;
     }
 
@@ -658,7 +664,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @param value The value of 'paymentOrderStatus'.
       * @return This builder.
       */
-    public Builder setPaymentOrderStatus(PaymentOrderStatus value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus value) {
       validate(fields()[6], value);
       this.paymentOrderStatus = value;
       fieldSetFlags()[6] = true;
@@ -678,7 +684,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * Clears the value of the 'paymentOrderStatus' field.
       * @return This builder.
       */
-    public Builder clearPaymentOrderStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearPaymentOrderStatus() {
       paymentOrderStatus = null;
       fieldSetFlags()[6] = false;
       return this;
@@ -689,17 +695,17 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     public PaymentRequestAvroModel build() {
       try {
         PaymentRequestAvroModel record = new PaymentRequestAvroModel();
-        record.id = fieldSetFlags()[0] ? this.id : (String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (String) defaultValue(fields()[1]);
-        record.customerId = fieldSetFlags()[2] ? this.customerId : (String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (String) defaultValue(fields()[3]);
+        record.id = fieldSetFlags()[0] ? this.id : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[0]);
+        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.customerId = fieldSetFlags()[2] ? this.customerId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[2]);
+        record.orderId = fieldSetFlags()[3] ? this.orderId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
         record.price = fieldSetFlags()[4] ? this.price : (java.math.BigDecimal) defaultValue(fields()[4]);
         record.createdAt = fieldSetFlags()[5] ? this.createdAt : (java.time.Instant) defaultValue(fields()[5]);
-        record.paymentOrderStatus = fieldSetFlags()[6] ? this.paymentOrderStatus : (PaymentOrderStatus) defaultValue(fields()[6]);
+        record.paymentOrderStatus = fieldSetFlags()[6] ? this.paymentOrderStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus) defaultValue(fields()[6]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
-      } catch (Exception e) {
+      } catch (java.lang.Exception e) {
         throw new org.apache.avro.AvroRuntimeException(e);
       }
     }
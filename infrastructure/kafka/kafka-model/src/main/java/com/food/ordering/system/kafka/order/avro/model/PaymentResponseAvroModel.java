@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -2126784712017759782L;
+  private static final long serialVersionUID = 8241489175800960277L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"paymentId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"fixed\",\"name\":\"Uuid\",\"doc\":\"UUID as 16 big-endian bytes, most significant bits first\",\"size\":16}},{\"name\":\"sagaId\",\"type\":\"Uuid\"},{\"name\":\"paymentId\",\"type\":\"Uuid\"},{\"name\":\"customerId\",\"type\":\"Uuid\"},{\"name\":\"orderId\",\"type\":\"Uuid\"},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -27,10 +27,10 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   }
 
   private static final BinaryMessageEncoder<PaymentResponseAvroModel> ENCODER =
-      new BinaryMessageEncoder<PaymentResponseAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
 
   private static final BinaryMessageDecoder<PaymentResponseAvroModel> DECODER =
-      new BinaryMessageDecoder<PaymentResponseAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
 
   /**
    * Return the BinaryMessageEncoder instance used by this class.
@@ -54,7 +54,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
    */
   public static BinaryMessageDecoder<PaymentResponseAvroModel> createDecoder(SchemaStore resolver) {
-    return new BinaryMessageDecoder<PaymentResponseAvroModel>(MODEL$, SCHEMA$, resolver);
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
   }
 
   /**
@@ -77,15 +77,15 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     return DECODER.decode(b);
   }
 
-  private String id;
-  private String sagaId;
-  private String paymentId;
-  private String customerId;
-  private String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid paymentId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid customerId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
-  private PaymentStatus paymentStatus;
-  private java.util.List<String> failureMessages;
+  private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
+  private java.util.List<java.lang.String> failureMessages;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -106,7 +106,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * @param paymentStatus The new value for paymentStatus
    * @param failureMessages The new value for failureMessages
    */
-  public PaymentResponseAvroModel(String id, String sagaId, String paymentId, String customerId, String orderId, java.math.BigDecimal price, java.time.Instant createdAt, PaymentStatus paymentStatus, java.util.List<String> failureMessages) {
+  public PaymentResponseAvroModel(com.food.ordering.system.kafka.order.avro.model.Uuid id, com.food.ordering.system.kafka.order.avro.model.Uuid sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid paymentId, com.food.ordering.system.kafka.order.avro.model.Uuid customerId, com.food.ordering.system.kafka.order.avro.model.Uuid orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus, java.util.List<java.lang.String> failureMessages) {
     this.id = id;
     this.sagaId = sagaId;
     this.paymentId = paymentId;
@@ -118,10 +118,15 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.failureMessages = failureMessages;
   }
 
-  public SpecificData getSpecificData() { return MODEL$; }
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
   public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
   // Used by DatumWriter.  Applications should not call.
-  public Object get(int field$) {
+  @Override
+  public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
     case 1: return sagaId;
@@ -156,18 +161,19 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   }
 
   // Used by DatumReader.  Applications should not call.
+  @Override
   @SuppressWarnings(value="unchecked")
-  public void put(int field$, Object value$) {
+  public void put(int field$, java.lang.Object value$) {
     switch (field$) {
-    case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: paymentId = value$ != null ? value$.toString() : null; break;
-    case 3: customerId = value$ != null ? value$.toString() : null; break;
-    case 4: orderId = value$ != null ? value$.toString() : null; break;
+    case 0: id = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 1: sagaId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: paymentId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 3: customerId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: orderId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
     case 5: price = (java.math.BigDecimal)value$; break;
     case 6: createdAt = (java.time.Instant)value$; break;
-    case 7: paymentStatus = (PaymentStatus)value$; break;
-    case 8: failureMessages = (java.util.List<String>)value$; break;
+    case 7: paymentStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentStatus)value$; break;
+    case 8: failureMessages = (java.util.List<java.lang.String>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -176,7 +182,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'id' field.
    * @return The value of the 'id' field.
    */
-  public String getId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
     return id;
   }
 
@@ -185,7 +191,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'id' field.
    * @param value the value to set.
    */
-  public void setId(String value) {
+  public void setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.id = value;
   }
 
@@ -193,7 +199,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
    */
-  public String getSagaId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
     return sagaId;
   }
 
@@ -202,7 +208,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'sagaId' field.
    * @param value the value to set.
    */
-  public void setSagaId(String value) {
+  public void setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.sagaId = value;
   }
 
@@ -210,7 +216,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'paymentId' field.
    * @return The value of the 'paymentId' field.
    */
-  public String getPaymentId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getPaymentId() {
     return paymentId;
   }
 
@@ -219,7 +225,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'paymentId' field.
    * @param value the value to set.
    */
-  public void setPaymentId(String value) {
+  public void setPaymentId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.paymentId = value;
   }
 
@@ -227,7 +233,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'customerId' field.
    * @return The value of the 'customerId' field.
    */
-  public String getCustomerId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerId() {
     return customerId;
   }
 
@@ -236,7 +242,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'customerId' field.
    * @param value the value to set.
    */
-  public void setCustomerId(String value) {
+  public void setCustomerId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.customerId = value;
   }
 
@@ -244,7 +250,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
    */
-  public String getOrderId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
     return orderId;
   }
 
@@ -253,7 +259,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'orderId' field.
    * @param value the value to set.
    */
-  public void setOrderId(String value) {
+  public void setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.orderId = value;
   }
 
@@ -295,7 +301,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'paymentStatus' field.
    * @return The value of the 'paymentStatus' field.
    */
-  public PaymentStatus getPaymentStatus() {
+  public com.food.ordering.system.kafka.order.avro.model.PaymentStatus getPaymentStatus() {
     return paymentStatus;
   }
 
@@ -304,7 +310,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'paymentStatus' field.
    * @param value the value to set.
    */
-  public void setPaymentStatus(PaymentStatus value) {
+  public void setPaymentStatus(com.food.ordering.system.kafka.order.avro.model.PaymentStatus value) {
     this.paymentStatus = value;
   }
 
@@ -312,7 +318,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Gets the value of the 'failureMessages' field.
    * @return The value of the 'failureMessages' field.
    */
-  public java.util.List<String> getFailureMessages() {
+  public java.util.List<java.lang.String> getFailureMessages() {
     return failureMessages;
   }
 
@@ -321,7 +327,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Sets the value of the 'failureMessages' field.
    * @param value the value to set.
    */
-  public void setFailureMessages(java.util.List<String> value) {
+  public void setFailureMessages(java.util.List<java.lang.String> value) {
     this.failureMessages = value;
   }
 
@@ -329,8 +335,8 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * Creates a new PaymentResponseAvroModel RecordBuilder.
    * @return A new PaymentResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder() {
-    return new Builder();
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder();
   }
 
   /**
@@ -338,11 +344,11 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * @param other The existing builder to copy.
    * @return A new PaymentResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder(Builder other) {
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder(other);
     }
   }
 
@@ -351,11 +357,11 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * @param other The existing instance to copy.
    * @return A new PaymentResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder(PaymentResponseAvroModel other) {
+  public static com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder(other);
     }
   }
 
@@ -366,15 +372,15 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<PaymentResponseAvroModel>
     implements org.apache.avro.data.RecordBuilder<PaymentResponseAvroModel> {
 
-    private String id;
-    private String sagaId;
-    private String paymentId;
-    private String customerId;
-    private String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid paymentId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid customerId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
-    private PaymentStatus paymentStatus;
-    private java.util.List<String> failureMessages;
+    private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
+    private java.util.List<java.lang.String> failureMessages;
 
     /** Creates a new Builder */
     private Builder() {
@@ -385,7 +391,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
      * Creates a Builder by copying an existing Builder.
      * @param other The existing Builder to copy.
      */
-    private Builder(Builder other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder other) {
       super(other);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -429,7 +435,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
      * Creates a Builder by copying an existing PaymentResponseAvroModel instance
      * @param other The existing instance to copy.
      */
-    private Builder(PaymentResponseAvroModel other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel other) {
       super(SCHEMA$, MODEL$);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -473,7 +479,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'id' field.
       * @return The value.
       */
-    public String getId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
       return id;
     }
 
@@ -483,7 +489,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'id'.
       * @return This builder.
       */
-    public Builder setId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[0], value);
       this.id = value;
       fieldSetFlags()[0] = true;
@@ -503,7 +509,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'id' field.
       * @return This builder.
       */
-    public Builder clearId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearId() {
       id = null;
       fieldSetFlags()[0] = false;
       return this;
@@ -513,7 +519,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'sagaId' field.
       * @return The value.
       */
-    public String getSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
       return sagaId;
     }
 
@@ -523,7 +529,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'sagaId'.
       * @return This builder.
       */
-    public Builder setSagaId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[1], value);
       this.sagaId = value;
       fieldSetFlags()[1] = true;
@@ -543,7 +549,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'sagaId' field.
       * @return This builder.
       */
-    public Builder clearSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearSagaId() {
       sagaId = null;
       fieldSetFlags()[1] = false;
       return this;
@@ -553,7 +559,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'paymentId' field.
       * @return The value.
       */
-    public String getPaymentId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getPaymentId() {
       return paymentId;
     }
 
@@ -563,7 +569,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'paymentId'.
       * @return This builder.
       */
-    public Builder setPaymentId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPaymentId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[2], value);
       this.paymentId = value;
       fieldSetFlags()[2] = true;
@@ -583,7 +589,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'paymentId' field.
       * @return This builder.
       */
-    public Builder clearPaymentId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPaymentId() {
       paymentId = null;
       fieldSetFlags()[2] = false;
       return this;
@@ -593,7 +599,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'customerId' field.
       * @return The value.
       */
-    public String getCustomerId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerId() {
       return customerId;
     }
 
@@ -603,7 +609,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'customerId'.
       * @return This builder.
       */
-    public Builder setCustomerId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setCustomerId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[3], value);
       this.customerId = value;
       fieldSetFlags()[3] = true;
@@ -623,7 +629,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'customerId' field.
       * @return This builder.
       */
-    public Builder clearCustomerId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearCustomerId() {
       customerId = null;
       fieldSetFlags()[3] = false;
       return this;
@@ -633,7 +639,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'orderId' field.
       * @return The value.
       */
-    public String getOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
       return orderId;
     }
 
@@ -643,7 +649,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'orderId'.
       * @return This builder.
       */
-    public Builder setOrderId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[4], value);
       this.orderId = value;
       fieldSetFlags()[4] = true;
@@ -663,7 +669,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'orderId' field.
       * @return This builder.
       */
-    public Builder clearOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearOrderId() {
       orderId = null;
       fieldSetFlags()[4] = false;
       return this;
@@ -683,7 +689,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'price'.
       * @return This builder.
       */
-    public Builder setPrice(java.math.BigDecimal value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPrice(java.math.BigDecimal value) {
       validate(fields()[5], value);
       this.price = value;
       fieldSetFlags()[5] = true;
@@ -703,7 +709,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'price' field.
       * @return This builder.
       */
-    public Builder clearPrice() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPrice() {
       price = null;
       fieldSetFlags()[5] = false;
       return this;
@@ -723,7 +729,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'createdAt'.
       * @return This builder.
       */
-    public Builder setCreatedAt(java.time.Instant value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setCreatedAt(java.time.Instant value) {
       validate(fields()[6], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
       fieldSetFlags()[6] = true;
@@ -743,7 +749,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'createdAt' field.
       * @return This builder.
       */
-    public Builder clearCreatedAt() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearCreatedAt() {
       fieldSetFlags()[6] = false;
       return this;
     }
@@ -752,7 +758,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'paymentStatus' field.
       * @return The value.
       */
-    public PaymentStatus getPaymentStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentStatus getPaymentStatus() {
       return paymentStatus;
     }
 
@@ -762,7 +768,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'paymentStatus'.
       * @return This builder.
       */
-    public Builder setPaymentStatus(PaymentStatus value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPaymentStatus(com.food.ordering.system.kafka.order.avro.model.PaymentStatus value) {
       validate(fields()[7], value);
       this.paymentStatus = value;
       fieldSetFlags()[7] = true;
@@ -782,7 +788,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'paymentStatus' field.
       * @return This builder.
       */
-    public Builder clearPaymentStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPaymentStatus() {
       paymentStatus = null;
       fieldSetFlags()[7] = false;
       return this;
@@ -792,7 +798,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Gets the value of the 'failureMessages' field.
       * @return The value.
       */
-    public java.util.List<String> getFailureMessages() {
+    public java.util.List<java.lang.String> getFailureMessages() {
       return failureMessages;
     }
 
@@ -802,7 +808,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @param value The value of 'failureMessages'.
       * @return This builder.
       */
-    public Builder setFailureMessages(java.util.List<String> value) {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setFailureMessages(java.util.List<java.lang.String> value) {
       validate(fields()[8], value);
       this.failureMessages = value;
       fieldSetFlags()[8] = true;
@@ -822,7 +828,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * Clears the value of the 'failureMessages' field.
       * @return This builder.
       */
-    public Builder clearFailureMessages() {
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearFailureMessages() {
       failureMessages = null;
       fieldSetFlags()[8] = false;
       return this;
@@ -833,19 +839,19 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     public PaymentResponseAvroModel build() {
       try {
         PaymentResponseAvroModel record = new PaymentResponseAvroModel();
-        record.id = fieldSetFlags()[0] ? this.id : (String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (String) defaultValue(fields()[1]);
-        record.paymentId = fieldSetFlags()[2] ? this.paymentId : (String) defaultValue(fields()[2]);
-        record.customerId = fieldSetFlags()[3] ? this.customerId : (String) defaultValue(fields()[3]);
-        record.orderId = fieldSetFlags()[4] ? this.orderId : (String) defaultValue(fields()[4]);
+        record.id = fieldSetFlags()[0] ? this.id : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[0]);
+        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.paymentId = fieldSetFlags()[2] ? this.paymentId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[2]);
+        record.customerId = fieldSetFlags()[3] ? this.customerId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.orderId = fieldSetFlags()[4] ? this.orderId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[4]);
         record.price = fieldSetFlags()[5] ? this.price : (java.math.BigDecimal) defaultValue(fields()[5]);
         record.createdAt = fieldSetFlags()[6] ? this.createdAt : (java.time.Instant) defaultValue(fields()[6]);
-        record.paymentStatus = fieldSetFlags()[7] ? this.paymentStatus : (PaymentStatus) defaultValue(fields()[7]);
-        record.failureMessages = fieldSetFlags()[8] ? this.failureMessages : (java.util.List<String>) defaultValue(fields()[8]);
+        record.paymentStatus = fieldSetFlags()[7] ? this.paymentStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentStatus) defaultValue(fields()[7]);
+        record.failureMessages = fieldSetFlags()[8] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[8]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
-      } catch (Exception e) {
+      } catch (java.lang.Exception e) {
         throw new org.apache.avro.AvroRuntimeException(e);
       }
     }
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3917361261016430486L;
+  private static final long serialVersionUID = 2502112407440695414L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"RestaurantOrderStatus\",\"symbols\":[\"PAID\"]}},{\"name\":\"products\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Product\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"logicalType\":\"uuid\"},{\"name\":\"quantity\",\"type\":\"int\"}]}}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"fixed\",\"name\":\"Uuid\",\"doc\":\"UUID as 16 big-endian bytes, most significant bits first\",\"size\":16}},{\"name\":\"sagaId\",\"type\":\"Uuid\"},{\"name\":\"restaurantId\",\"type\":\"Uuid\"},{\"name\":\"orderId\",\"type\":\"Uuid\"},{\"name\":\"restaurantOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"RestaurantOrderStatus\",\"symbols\":[\"PAID\"]}},{\"name\":\"products\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Product\",\"fields\":[{\"name\":\"id\",\"type\":\"Uuid\"},{\"name\":\"quantity\",\"type\":\"int\"}]}}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -27,10 +27,10 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   }
 
   private static final BinaryMessageEncoder<RestaurantApprovalRequestAvroModel> ENCODER =
-      new BinaryMessageEncoder<RestaurantApprovalRequestAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
 
   private static final BinaryMessageDecoder<RestaurantApprovalRequestAvroModel> DECODER =
-      new BinaryMessageDecoder<RestaurantApprovalRequestAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
 
   /**
    * Return the BinaryMessageEncoder instance used by this class.
@@ -54,7 +54,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
    */
   public static BinaryMessageDecoder<RestaurantApprovalRequestAvroModel> createDecoder(SchemaStore resolver) {
-    return new BinaryMessageDecoder<RestaurantApprovalRequestAvroModel>(MODEL$, SCHEMA$, resolver);
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
   }
 
   /**
@@ -77,12 +77,12 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     return DECODER.decode(b);
   }
 
-  private String id;
-  private String sagaId;
-  private String restaurantId;
-  private String orderId;
-  private RestaurantOrderStatus restaurantOrderStatus;
-  private java.util.List<Product> products;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
+  private com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus;
+  private java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products;
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
 
@@ -104,7 +104,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * @param price The new value for price
    * @param createdAt The new value for createdAt
    */
-  public RestaurantApprovalRequestAvroModel(String id, String sagaId, String restaurantId, String orderId, RestaurantOrderStatus restaurantOrderStatus, java.util.List<Product> products, java.math.BigDecimal price, java.time.Instant createdAt) {
+  public RestaurantApprovalRequestAvroModel(com.food.ordering.system.kafka.order.avro.model.Uuid id, com.food.ordering.system.kafka.order.avro.model.Uuid sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId, com.food.ordering.system.kafka.order.avro.model.Uuid orderId, com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus, java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products, java.math.BigDecimal price, java.time.Instant createdAt) {
     this.id = id;
     this.sagaId = sagaId;
     this.restaurantId = restaurantId;
@@ -115,10 +115,15 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
   }
 
-  public SpecificData getSpecificData() { return MODEL$; }
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
   public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
   // Used by DatumWriter.  Applications should not call.
-  public Object get(int field$) {
+  @Override
+  public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
     case 1: return sagaId;
@@ -151,15 +156,16 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   }
 
   // Used by DatumReader.  Applications should not call.
+  @Override
   @SuppressWarnings(value="unchecked")
-  public void put(int field$, Object value$) {
+  public void put(int field$, java.lang.Object value$) {
     switch (field$) {
-    case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: restaurantId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
-    case 4: restaurantOrderStatus = (RestaurantOrderStatus)value$; break;
-    case 5: products = (java.util.List<Product>)value$; break;
+    case 0: id = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 1: sagaId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: restaurantId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 3: orderId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: restaurantOrderStatus = (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus)value$; break;
+    case 5: products = (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>)value$; break;
     case 6: price = (java.math.BigDecimal)value$; break;
     case 7: createdAt = (java.time.Instant)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
@@ -170,7 +176,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'id' field.
    * @return The value of the 'id' field.
    */
-  public String getId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
     return id;
   }
 
@@ -179,7 +185,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'id' field.
    * @param value the value to set.
    */
-  public void setId(String value) {
+  public void setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.id = value;
   }
 
@@ -187,7 +193,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
    */
-  public String getSagaId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
     return sagaId;
   }
 
@@ -196,7 +202,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'sagaId' field.
    * @param value the value to set.
    */
-  public void setSagaId(String value) {
+  public void setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.sagaId = value;
   }
 
@@ -204,7 +210,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'restaurantId' field.
    * @return The value of the 'restaurantId' field.
    */
-  public String getRestaurantId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantId() {
     return restaurantId;
   }
 
@@ -213,7 +219,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'restaurantId' field.
    * @param value the value to set.
    */
-  public void setRestaurantId(String value) {
+  public void setRestaurantId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.restaurantId = value;
   }
 
@@ -221,7 +227,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
    */
-  public String getOrderId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
     return orderId;
   }
 
@@ -230,7 +236,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'orderId' field.
    * @param value the value to set.
    */
-  public void setOrderId(String value) {
+  public void setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.orderId = value;
   }
 
@@ -238,7 +244,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'restaurantOrderStatus' field.
    * @return The value of the 'restaurantOrderStatus' field.
    */
-  public RestaurantOrderStatus getRestaurantOrderStatus() {
+  public com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus getRestaurantOrderStatus() {
     return restaurantOrderStatus;
   }
 
@@ -247,7 +253,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'restaurantOrderStatus' field.
    * @param value the value to set.
    */
-  public void setRestaurantOrderStatus(RestaurantOrderStatus value) {
+  public void setRestaurantOrderStatus(com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus value) {
     this.restaurantOrderStatus = value;
   }
 
@@ -255,7 +261,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Gets the value of the 'products' field.
    * @return The value of the 'products' field.
    */
-  public java.util.List<Product> getProducts() {
+  public java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> getProducts() {
     return products;
   }
 
@@ -264,7 +270,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Sets the value of the 'products' field.
    * @param value the value to set.
    */
-  public void setProducts(java.util.List<Product> value) {
+  public void setProducts(java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> value) {
     this.products = value;
   }
 
@@ -306,8 +312,8 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * Creates a new RestaurantApprovalRequestAvroModel RecordBuilder.
    * @return A new RestaurantApprovalRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder() {
-    return new Builder();
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder();
   }
 
   /**
@@ -315,11 +321,11 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * @param other The existing builder to copy.
    * @return A new RestaurantApprovalRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder(Builder other) {
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder(other);
     }
   }
 
@@ -328,11 +334,11 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
    * @param other The existing instance to copy.
    * @return A new RestaurantApprovalRequestAvroModel RecordBuilder
    */
-  public static Builder newBuilder(RestaurantApprovalRequestAvroModel other) {
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder(other);
     }
   }
 
@@ -343,12 +349,12 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<RestaurantApprovalRequestAvroModel>
     implements org.apache.avro.data.RecordBuilder<RestaurantApprovalRequestAvroModel> {
 
-    private String id;
-    private String sagaId;
-    private String restaurantId;
-    private String orderId;
-    private RestaurantOrderStatus restaurantOrderStatus;
-    private java.util.List<Product> products;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
+    private com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus;
+    private java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products;
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
 
@@ -361,7 +367,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
      * Creates a Builder by copying an existing Builder.
      * @param other The existing Builder to copy.
      */
-    private Builder(Builder other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder other) {
       super(other);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -401,7 +407,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
      * Creates a Builder by copying an existing RestaurantApprovalRequestAvroModel instance
      * @param other The existing instance to copy.
      */
-    private Builder(RestaurantApprovalRequestAvroModel other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel other) {
       super(SCHEMA$, MODEL$);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -441,7 +447,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'id' field.
       * @return The value.
       */
-    public String getId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
       return id;
     }
 
@@ -451,7 +457,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'id'.
       * @return This builder.
       */
-    public Builder setId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[0], value);
       this.id = value;
       fieldSetFlags()[0] = true;
@@ -471,7 +477,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'id' field.
       * @return This builder.
       */
-    public Builder clearId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearId() {
       id = null;
       fieldSetFlags()[0] = false;
       return this;
@@ -481,7 +487,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'sagaId' field.
       * @return The value.
       */
-    public String getSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
       return sagaId;
     }
 
@@ -491,7 +497,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'sagaId'.
       * @return This builder.
       */
-    public Builder setSagaId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[1], value);
       this.sagaId = value;
       fieldSetFlags()[1] = true;
@@ -511,7 +517,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'sagaId' field.
       * @return This builder.
       */
-    public Builder clearSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearSagaId() {
       sagaId = null;
       fieldSetFlags()[1] = false;
       return this;
@@ -521,7 +527,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'restaurantId' field.
       * @return The value.
       */
-    public String getRestaurantId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantId() {
       return restaurantId;
     }
 
@@ -531,7 +537,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'restaurantId'.
       * @return This builder.
       */
-    public Builder setRestaurantId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setRestaurantId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[2], value);
       this.restaurantId = value;
       fieldSetFlags()[2] = true;
@@ -551,7 +557,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'restaurantId' field.
       * @return This builder.
       */
-    public Builder clearRestaurantId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearRestaurantId() {
       restaurantId = null;
       fieldSetFlags()[2] = false;
       return this;
@@ -561,7 +567,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'orderId' field.
       * @return The value.
       */
-    public String getOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
       return orderId;
     }
 
@@ -571,7 +577,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'orderId'.
       * @return This builder.
       */
-    public Builder setOrderId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[3], value);
       this.orderId = value;
       fieldSetFlags()[3] = true;
@@ -591,7 +597,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'orderId' field.
       * @return This builder.
       */
-    public Builder clearOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearOrderId() {
       orderId = null;
       fieldSetFlags()[3] = false;
       return this;
@@ -601,7 +607,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'restaurantOrderStatus' field.
       * @return The value.
       */
-    public RestaurantOrderStatus getRestaurantOrderStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus getRestaurantOrderStatus() {
       return restaurantOrderStatus;
     }
 
@@ -611,7 +617,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'restaurantOrderStatus'.
       * @return This builder.
       */
-    public Builder setRestaurantOrderStatus(RestaurantOrderStatus value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setRestaurantOrderStatus(com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus value) {
       validate(fields()[4], value);
       this.restaurantOrderStatus = value;
       fieldSetFlags()[4] = true;
@@ -631,7 +637,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'restaurantOrderStatus' field.
       * @return This builder.
       */
-    public Builder clearRestaurantOrderStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearRestaurantOrderStatus() {
       restaurantOrderStatus = null;
       fieldSetFlags()[4] = false;
       return this;
@@ -641,7 +647,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Gets the value of the 'products' field.
       * @return The value.
       */
-    public java.util.List<Product> getProducts() {
+    public java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> getProducts() {
       return products;
     }
 
@@ -651,7 +657,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'products'.
       * @return This builder.
       */
-    public Builder setProducts(java.util.List<Product> value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setProducts(java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> value) {
       validate(fields()[5], value);
       this.products = value;
       fieldSetFlags()[5] = true;
@@ -671,7 +677,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'products' field.
       * @return This builder.
       */
-    public Builder clearProducts() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearProducts() {
       products = null;
       fieldSetFlags()[5] = false;
       return this;
@@ -691,7 +697,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'price'.
       * @return This builder.
       */
-    public Builder setPrice(java.math.BigDecimal value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setPrice(java.math.BigDecimal value) {
       validate(fields()[6], value);
       this.price = value;
       fieldSetFlags()[6] = true;
@@ -711,7 +717,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'price' field.
       * @return This builder.
       */
-    public Builder clearPrice() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearPrice() {
       price = null;
       fieldSetFlags()[6] = false;
       return this;
@@ -731,7 +737,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @param value The value of 'createdAt'.
       * @return This builder.
       */
-    public Builder setCreatedAt(java.time.Instant value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setCreatedAt(java.time.Instant value) {
       validate(fields()[7], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
       fieldSetFlags()[7] = true;
@@ -751,7 +757,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * Clears the value of the 'createdAt' field.
       * @return This builder.
       */
-    public Builder clearCreatedAt() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearCreatedAt() {
       fieldSetFlags()[7] = false;
       return this;
     }
@@ -761,18 +767,18 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     public RestaurantApprovalRequestAvroModel build() {
       try {
         RestaurantApprovalRequestAvroModel record = new RestaurantApprovalRequestAvroModel();
-        record.id = fieldSetFlags()[0] ? this.id : (String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (String) defaultValue(fields()[1]);
-        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (String) defaultValue(fields()[3]);
-        record.restaurantOrderStatus = fieldSetFlags()[4] ? this.restaurantOrderStatus : (RestaurantOrderStatus) defaultValue(fields()[4]);
-        record.products = fieldSetFlags()[5] ? this.products : (java.util.List<Product>) defaultValue(fields()[5]);
+        record.id = fieldSetFlags()[0] ? this.id : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[0]);
+        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[2]);
+        record.orderId = fieldSetFlags()[3] ? this.orderId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.restaurantOrderStatus = fieldSetFlags()[4] ? this.restaurantOrderStatus : (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus) defaultValue(fields()[4]);
+        record.products = fieldSetFlags()[5] ? this.products : (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>) defaultValue(fields()[5]);
         record.price = fieldSetFlags()[6] ? this.price : (java.math.BigDecimal) defaultValue(fields()[6]);
         record.createdAt = fieldSetFlags()[7] ? this.createdAt : (java.time.Instant) defaultValue(fields()[7]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
-      } catch (Exception e) {
+      } catch (java.lang.Exception e) {
         throw new org.apache.avro.AvroRuntimeException(e);
       }
     }
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3431989201238018220L;
+  private static final long serialVersionUID = -5687212966892106406L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"fixed\",\"name\":\"Uuid\",\"doc\":\"UUID as 16 big-endian bytes, most significant bits first\",\"size\":16}},{\"name\":\"sagaId\",\"type\":\"Uuid\"},{\"name\":\"restaurantId\",\"type\":\"Uuid\"},{\"name\":\"orderId\",\"type\":\"Uuid\"},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -26,10 +26,10 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   }
 
   private static final BinaryMessageEncoder<RestaurantApprovalResponseAvroModel> ENCODER =
-      new BinaryMessageEncoder<RestaurantApprovalResponseAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
 
   private static final BinaryMessageDecoder<RestaurantApprovalResponseAvroModel> DECODER =
-      new BinaryMessageDecoder<RestaurantApprovalResponseAvroModel>(MODEL$, SCHEMA$);
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
 
   /**
    * Return the BinaryMessageEncoder instance used by this class.
@@ -53,7 +53,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
    */
   public static BinaryMessageDecoder<RestaurantApprovalResponseAvroModel> createDecoder(SchemaStore resolver) {
-    return new BinaryMessageDecoder<RestaurantApprovalResponseAvroModel>(MODEL$, SCHEMA$, resolver);
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
   }
 
   /**
@@ -76,13 +76,13 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     return DECODER.decode(b);
   }
 
-  private String id;
-  private String sagaId;
-  private String restaurantId;
-  private String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
   private java.time.Instant createdAt;
-  private OrderApprovalStatus orderApprovalStatus;
-  private java.util.List<String> failureMessages;
+  private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
+  private java.util.List<java.lang.String> failureMessages;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -101,7 +101,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * @param orderApprovalStatus The new value for orderApprovalStatus
    * @param failureMessages The new value for failureMessages
    */
-  public RestaurantApprovalResponseAvroModel(String id, String sagaId, String restaurantId, String orderId, java.time.Instant createdAt, OrderApprovalStatus orderApprovalStatus, java.util.List<String> failureMessages) {
+  public RestaurantApprovalResponseAvroModel(com.food.ordering.system.kafka.order.avro.model.Uuid id, com.food.ordering.system.kafka.order.avro.model.Uuid sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId, com.food.ordering.system.kafka.order.avro.model.Uuid orderId, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus, java.util.List<java.lang.String> failureMessages) {
     this.id = id;
     this.sagaId = sagaId;
     this.restaurantId = restaurantId;
@@ -111,10 +111,15 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.failureMessages = failureMessages;
   }
 
-  public SpecificData getSpecificData() { return MODEL$; }
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
   public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
   // Used by DatumWriter.  Applications should not call.
-  public Object get(int field$) {
+  @Override
+  public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
     case 1: return sagaId;
@@ -145,16 +150,17 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   }
 
   // Used by DatumReader.  Applications should not call.
+  @Override
   @SuppressWarnings(value="unchecked")
-  public void put(int field$, Object value$) {
+  public void put(int field$, java.lang.Object value$) {
     switch (field$) {
-    case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: restaurantId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
+    case 0: id = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 1: sagaId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: restaurantId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 3: orderId = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
     case 4: createdAt = (java.time.Instant)value$; break;
-    case 5: orderApprovalStatus = (OrderApprovalStatus)value$; break;
-    case 6: failureMessages = (java.util.List<String>)value$; break;
+    case 5: orderApprovalStatus = (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus)value$; break;
+    case 6: failureMessages = (java.util.List<java.lang.String>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -163,7 +169,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'id' field.
    * @return The value of the 'id' field.
    */
-  public String getId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
     return id;
   }
 
@@ -172,7 +178,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'id' field.
    * @param value the value to set.
    */
-  public void setId(String value) {
+  public void setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.id = value;
   }
 
@@ -180,7 +186,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
    */
-  public String getSagaId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
     return sagaId;
   }
 
@@ -189,7 +195,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'sagaId' field.
    * @param value the value to set.
    */
-  public void setSagaId(String value) {
+  public void setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.sagaId = value;
   }
 
@@ -197,7 +203,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'restaurantId' field.
    * @return The value of the 'restaurantId' field.
    */
-  public String getRestaurantId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantId() {
     return restaurantId;
   }
 
@@ -206,7 +212,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'restaurantId' field.
    * @param value the value to set.
    */
-  public void setRestaurantId(String value) {
+  public void setRestaurantId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.restaurantId = value;
   }
 
@@ -214,7 +220,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
    */
-  public String getOrderId() {
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
     return orderId;
   }
 
@@ -223,7 +229,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'orderId' field.
    * @param value the value to set.
    */
-  public void setOrderId(String value) {
+  public void setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
     this.orderId = value;
   }
 
@@ -248,7 +254,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'orderApprovalStatus' field.
    * @return The value of the 'orderApprovalStatus' field.
    */
-  public OrderApprovalStatus getOrderApprovalStatus() {
+  public com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus getOrderApprovalStatus() {
     return orderApprovalStatus;
   }
 
@@ -257,7 +263,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'orderApprovalStatus' field.
    * @param value the value to set.
    */
-  public void setOrderApprovalStatus(OrderApprovalStatus value) {
+  public void setOrderApprovalStatus(com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus value) {
     this.orderApprovalStatus = value;
   }
 
@@ -265,7 +271,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Gets the value of the 'failureMessages' field.
    * @return The value of the 'failureMessages' field.
    */
-  public java.util.List<String> getFailureMessages() {
+  public java.util.List<java.lang.String> getFailureMessages() {
     return failureMessages;
   }
 
@@ -274,7 +280,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Sets the value of the 'failureMessages' field.
    * @param value the value to set.
    */
-  public void setFailureMessages(java.util.List<String> value) {
+  public void setFailureMessages(java.util.List<java.lang.String> value) {
     this.failureMessages = value;
   }
 
@@ -282,8 +288,8 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * Creates a new RestaurantApprovalResponseAvroModel RecordBuilder.
    * @return A new RestaurantApprovalResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder() {
-    return new Builder();
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder();
   }
 
   /**
@@ -291,11 +297,11 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * @param other The existing builder to copy.
    * @return A new RestaurantApprovalResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder(Builder other) {
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder(other);
     }
   }
 
@@ -304,11 +310,11 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * @param other The existing instance to copy.
    * @return A new RestaurantApprovalResponseAvroModel RecordBuilder
    */
-  public static Builder newBuilder(RestaurantApprovalResponseAvroModel other) {
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel other) {
     if (other == null) {
-      return new Builder();
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder();
     } else {
-      return new Builder(other);
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder(other);
     }
   }
 
@@ -319,13 +325,13 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<RestaurantApprovalResponseAvroModel>
     implements org.apache.avro.data.RecordBuilder<RestaurantApprovalResponseAvroModel> {
 
-    private String id;
-    private String sagaId;
-    private String restaurantId;
-    private String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderId;
     private java.time.Instant createdAt;
-    private OrderApprovalStatus orderApprovalStatus;
-    private java.util.List<String> failureMessages;
+    private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
+    private java.util.List<java.lang.String> failureMessages;
 
     /** Creates a new Builder */
     private Builder() {
@@ -336,7 +342,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
      * Creates a Builder by copying an existing Builder.
      * @param other The existing Builder to copy.
      */
-    private Builder(Builder other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder other) {
       super(other);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -372,7 +378,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
      * Creates a Builder by copying an existing RestaurantApprovalResponseAvroModel instance
      * @param other The existing instance to copy.
      */
-    private Builder(RestaurantApprovalResponseAvroModel other) {
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel other) {
       super(SCHEMA$, MODEL$);
       if (isValidValue(fields()[0], other.id)) {
         this.id = data().deepCopy(fields()[0].schema(), other.id);
@@ -408,7 +414,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'id' field.
       * @return The value.
       */
-    public String getId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getId() {
       return id;
     }
 
@@ -418,7 +424,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'id'.
       * @return This builder.
       */
-    public Builder setId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[0], value);
       this.id = value;
       fieldSetFlags()[0] = true;
@@ -438,7 +444,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'id' field.
       * @return This builder.
       */
-    public Builder clearId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearId() {
       id = null;
       fieldSetFlags()[0] = false;
       return this;
@@ -448,7 +454,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'sagaId' field.
       * @return The value.
       */
-    public String getSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaId() {
       return sagaId;
     }
 
@@ -458,7 +464,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'sagaId'.
       * @return This builder.
       */
-    public Builder setSagaId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setSagaId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[1], value);
       this.sagaId = value;
       fieldSetFlags()[1] = true;
@@ -478,7 +484,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'sagaId' field.
       * @return This builder.
       */
-    public Builder clearSagaId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearSagaId() {
       sagaId = null;
       fieldSetFlags()[1] = false;
       return this;
@@ -488,7 +494,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'restaurantId' field.
       * @return The value.
       */
-    public String getRestaurantId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantId() {
       return restaurantId;
     }
 
@@ -498,7 +504,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'restaurantId'.
       * @return This builder.
       */
-    public Builder setRestaurantId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setRestaurantId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[2], value);
       this.restaurantId = value;
       fieldSetFlags()[2] = true;
@@ -518,7 +524,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'restaurantId' field.
       * @return This builder.
       */
-    public Builder clearRestaurantId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearRestaurantId() {
       restaurantId = null;
       fieldSetFlags()[2] = false;
       return this;
@@ -528,7 +534,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'orderId' field.
       * @return The value.
       */
-    public String getOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderId() {
       return orderId;
     }
 
@@ -538,7 +544,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'orderId'.
       * @return This builder.
       */
-    public Builder setOrderId(String value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setOrderId(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
       validate(fields()[3], value);
       this.orderId = value;
       fieldSetFlags()[3] = true;
@@ -558,7 +564,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'orderId' field.
       * @return This builder.
       */
-    public Builder clearOrderId() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearOrderId() {
       orderId = null;
       fieldSetFlags()[3] = false;
       return this;
@@ -578,7 +584,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'createdAt'.
       * @return This builder.
       */
-    public Builder setCreatedAt(java.time.Instant value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setCreatedAt(java.time.Instant value) {
       validate(fields()[4], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
       fieldSetFlags()[4] = true;
@@ -598,7 +604,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'createdAt' field.
       * @return This builder.
       */
-    public Builder clearCreatedAt() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearCreatedAt() {
       fieldSetFlags()[4] = false;
       return this;
     }
@@ -607,7 +613,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'orderApprovalStatus' field.
       * @return The value.
       */
-    public OrderApprovalStatus getOrderApprovalStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus getOrderApprovalStatus() {
       return orderApprovalStatus;
     }
 
@@ -617,7 +623,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'orderApprovalStatus'.
       * @return This builder.
       */
-    public Builder setOrderApprovalStatus(OrderApprovalStatus value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setOrderApprovalStatus(com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus value) {
       validate(fields()[5], value);
       this.orderApprovalStatus = value;
       fieldSetFlags()[5] = true;
@@ -637,7 +643,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'orderApprovalStatus' field.
       * @return This builder.
       */
-    public Builder clearOrderApprovalStatus() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearOrderApprovalStatus() {
       orderApprovalStatus = null;
       fieldSetFlags()[5] = false;
       return this;
@@ -647,7 +653,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Gets the value of the 'failureMessages' field.
       * @return The value.
       */
-    public java.util.List<String> getFailureMessages() {
+    public java.util.List<java.lang.String> getFailureMessages() {
       return failureMessages;
     }
 
@@ -657,7 +663,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @param value The value of 'failureMessages'.
       * @return This builder.
       */
-    public Builder setFailureMessages(java.util.List<String> value) {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setFailureMessages(java.util.List<java.lang.String> value) {
       validate(fields()[6], value);
       this.failureMessages = value;
       fieldSetFlags()[6] = true;
@@ -677,7 +683,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * Clears the value of the 'failureMessages' field.
       * @return This builder.
       */
-    public Builder clearFailureMessages() {
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearFailureMessages() {
       failureMessages = null;
       fieldSetFlags()[6] = false;
       return this;
@@ -688,17 +694,17 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     public RestaurantApprovalResponseAvroModel build() {
       try {
         RestaurantApprovalResponseAvroModel record = new RestaurantApprovalResponseAvroModel();
-        record.id = fieldSetFlags()[0] ? this.id : (String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (String) defaultValue(fields()[1]);
-        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (String) defaultValue(fields()[3]);
+        record.id = fieldSetFlags()[0] ? this.id : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[0]);
+        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[2]);
+        record.orderId = fieldSetFlags()[3] ? this.orderId : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
         record.createdAt = fieldSetFlags()[4] ? this.createdAt : (java.time.Instant) defaultValue(fields()[4]);
-        record.orderApprovalStatus = fieldSetFlags()[5] ? this.orderApprovalStatus : (OrderApprovalStatus) defaultValue(fields()[5]);
-        record.failureMessages = fieldSetFlags()[6] ? this.failureMessages : (java.util.List<String>) defaultValue(fields()[6]);
+        record.orderApprovalStatus = fieldSetFlags()[5] ? this.orderApprovalStatus : (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus) defaultValue(fields()[5]);
+        record.failureMessages = fieldSetFlags()[6] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[6]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
-      } catch (Exception e) {
+      } catch (java.lang.Exception e) {
         throw new org.apache.avro.AvroRuntimeException(e);
       }
     }
@@ -0,0 +1,71 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema id cache shared by every serializer and deserializer pointing at the same registry. Ids are cached per
+ * subject, so the first record sent to a topic registers (or looks up) its schema under that topic's subject and
+ * every further record is served from memory. Nothing is registered up front. A registry url starting with
+ * {@code file:} selects the directory backed {@link FileSchemaRegistry}.
+ */
+@Slf4j
+public class AvroSchemaCache {
+
+    private static final String FILE_REGISTRY_PREFIX = "file:";
+
+    private static final Map<String, AvroSchemaCache> CACHES = new ConcurrentHashMap<>();
+
+    private final SchemaRegistry schemaRegistry;
+
+    private final Map<String, Map<Schema, Integer>> idsBySubject = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    AvroSchemaCache(SchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    public static AvroSchemaCache forRegistryUrl(String schemaRegistryUrl) {
+        if (schemaRegistryUrl == null || schemaRegistryUrl.isBlank()) {
+            throw new SerializationException("Schema registry url is not configured!");
+        }
+        String url = schemaRegistryUrl.split(",")[0].trim();
+        return CACHES.computeIfAbsent(url, registryUrl -> new AvroSchemaCache(createSchemaRegistry(registryUrl)));
+    }
+
+    public int getSchemaId(Schema schema, String subject) {
+        Map<Schema, Integer> idsBySchema = idsBySubject.computeIfAbsent(subject,
+                unknownSubject -> new ConcurrentHashMap<>());
+        Integer schemaId = idsBySchema.get(schema);
+        if (schemaId != null) {
+            return schemaId;
+        }
+        return idsBySchema.computeIfAbsent(schema, unknownSchema -> {
+            int id = schemaRegistry.register(subject, unknownSchema);
+            schemasById.putIfAbsent(id, unknownSchema);
+            log.info("Registered schema {} with id {} under subject {}", unknownSchema.getFullName(), id, subject);
+            return id;
+        });
+    }
+
+    public Schema getSchema(int schemaId) {
+        Schema schema = schemasById.get(schemaId);
+        if (schema != null) {
+            return schema;
+        }
+        return schemasById.computeIfAbsent(schemaId, schemaRegistry::getById);
+    }
+
+    private static SchemaRegistry createSchemaRegistry(String registryUrl) {
+        if (registryUrl.startsWith(FILE_REGISTRY_PREFIX)) {
+            return new FileSchemaRegistry(Path.of(registryUrl.substring(FILE_REGISTRY_PREFIX.length())));
+        }
+        return new RestSchemaRegistry(registryUrl);
+    }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidFixedSpecificData;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counterpart of {@link CachedSchemaAvroSerializer}. Writer schemas are looked up by id in the shared
+ * {@link AvroSchemaCache}; with {@code specific.avro.reader} enabled records are resolved into the generated
+ * kafka-model classes, including records written with the former uuid string ids. The binary decoder is reused
+ * per thread. With {@code avro.record.reuse} enabled the previous record of the same schema is decoded into as
+ * well, which is only safe when callers are done with a record before the next one is deserialized on that
+ * thread, so not for batch listeners.
+ */
+public class CachedSchemaAvroDeserializer implements Deserializer<IndexedRecord> {
+
+    public static final String SPECIFIC_AVRO_READER_CONFIG = "specific.avro.reader";
+
+    public static final String AVRO_RECORD_REUSE_CONFIG = "avro.record.reuse";
+
+    private static final int HEADER_SIZE = 5;
+
+    private final Map<Integer, DatumReader<IndexedRecord>> datumReaders = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<DecoderState> decoderState = ThreadLocal.withInitial(DecoderState::new);
+
+    private AvroSchemaCache avroSchemaCache;
+
+    private boolean specificAvroReader;
+
+    private boolean avroRecordReuse;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object schemaRegistryUrl = configs.get(CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG);
+        this.avroSchemaCache = AvroSchemaCache.forRegistryUrl(schemaRegistryUrl == null ? null :
+                schemaRegistryUrl.toString());
+        this.specificAvroReader = isEnabled(configs, SPECIFIC_AVRO_READER_CONFIG);
+        this.avroRecordReuse = isEnabled(configs, AVRO_RECORD_REUSE_CONFIG);
+    }
+
+    @Override
+    public IndexedRecord deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.get() != CachedSchemaAvroSerializer.MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte in record from topic " + topic);
+        }
+        int schemaId = buffer.getInt();
+        DecoderState state = decoderState.get();
+        try {
+            state.decoder = DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE,
+                    state.decoder);
+            DatumReader<IndexedRecord> datumReader = datumReaders.computeIfAbsent(schemaId, this::createDatumReader);
+            if (!avroRecordReuse) {
+                return datumReader.read(null, state.decoder);
+            }
+            IndexedRecord record = datumReader.read(state.records.get(schemaId), state.decoder);
+            state.records.put(schemaId, record);
+            return record;
+        } catch (IOException | RuntimeException e) {
+            state.records.remove(schemaId);
+            throw new SerializationException("Could not deserialize record with schema id " + schemaId +
+                    " from topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        decoderState.remove();
+    }
+
+    private static boolean isEnabled(Map<String, ?> configs, String key) {
+        Object value = configs.get(key);
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    private DatumReader<IndexedRecord> createDatumReader(int schemaId) {
+        Schema writerSchema = avroSchemaCache.getSchema(schemaId);
+        if (specificAvroReader) {
+            Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+            if (recordClass != null) {
+                SpecificData specificData = UuidFixedSpecificData.forClass(recordClass);
+                Schema readerSchema = specificData.getSchema(recordClass);
+                if (SchemaCompatibility.checkReaderWriterCompatibility(readerSchema, writerSchema).getType() ==
+                        SchemaCompatibility.SchemaCompatibilityType.INCOMPATIBLE) {
+                    return new LegacyUuidDatumReader(writerSchema, readerSchema, specificData);
+                }
+                return new SpecificDatumReader<>(writerSchema, readerSchema, specificData);
+            }
+        }
+        return new GenericDatumReader<>(writerSchema);
+    }
+
+    private static final class DecoderState {
+        private final Map<Integer, IndexedRecord> records = new HashMap<>();
+        private BinaryDecoder decoder;
+    }
+}
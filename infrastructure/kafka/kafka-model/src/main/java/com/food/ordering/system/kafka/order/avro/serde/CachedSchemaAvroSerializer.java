@@ -0,0 +1,120 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro serializer writing the schema registry wire format (magic byte, schema id, binary payload), so records
+ * stay readable by the Confluent deserializer. Schema ids come from the shared {@link AvroSchemaCache}.
+ * The output buffer and encoder are kept per thread, leaving the returned byte array as the only allocation
+ * besides the datum writer's own.
+ * <p>
+ * Ids are written as uuid strings with the previous schema version unless {@code avro.uuid.encoding} is set to
+ * {@code fixed}. Switch it only once every consumer of the topic reads the {@code Uuid} fixed.
+ */
+public class CachedSchemaAvroSerializer implements Serializer<IndexedRecord> {
+
+    public static final String SCHEMA_REGISTRY_URL_CONFIG = "schema.registry.url";
+
+    public static final String UUID_ENCODING_CONFIG = "avro.uuid.encoding";
+
+    public static final String UUID_ENCODING_STRING = "string";
+
+    public static final String UUID_ENCODING_FIXED = "fixed";
+
+    static final byte MAGIC_BYTE = 0x0;
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final Map<Schema, DatumWriter<IndexedRecord>> datumWriters = new ConcurrentHashMap<>();
+
+    private final Map<Schema, Schema> writerSchemas = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<EncoderState> encoderState = ThreadLocal.withInitial(EncoderState::new);
+
+    private AvroSchemaCache avroSchemaCache;
+
+    private boolean isKey;
+
+    private boolean fixedUuidEncoding;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object schemaRegistryUrl = configs.get(SCHEMA_REGISTRY_URL_CONFIG);
+        this.avroSchemaCache = AvroSchemaCache.forRegistryUrl(schemaRegistryUrl == null ? null :
+                schemaRegistryUrl.toString());
+        this.isKey = isKey;
+        Object uuidEncoding = configs.get(UUID_ENCODING_CONFIG);
+        String encoding = uuidEncoding == null ? UUID_ENCODING_STRING : uuidEncoding.toString().trim();
+        if (!UUID_ENCODING_STRING.equalsIgnoreCase(encoding) && !UUID_ENCODING_FIXED.equalsIgnoreCase(encoding)) {
+            throw new SerializationException("Unknown " + UUID_ENCODING_CONFIG + ": " + encoding);
+        }
+        this.fixedUuidEncoding = UUID_ENCODING_FIXED.equalsIgnoreCase(encoding);
+    }
+
+    @Override
+    public byte[] serialize(String topic, IndexedRecord data) {
+        if (data == null) {
+            return null;
+        }
+        Schema schema = data.getSchema();
+        Schema writerSchema = fixedUuidEncoding ? schema :
+                writerSchemas.computeIfAbsent(schema, LegacyUuidDatumWriter::toLegacySchema);
+        int schemaId = avroSchemaCache.getSchemaId(writerSchema, topic + (isKey ? "-key" : "-value"));
+        EncoderState state = encoderState.get();
+        try {
+            ByteArrayOutputStream outputStream = state.outputStream;
+            outputStream.reset();
+            outputStream.write(MAGIC_BYTE);
+            outputStream.write(schemaId >>> 24);
+            outputStream.write(schemaId >>> 16);
+            outputStream.write(schemaId >>> 8);
+            outputStream.write(schemaId);
+            state.encoder = EncoderFactory.get().binaryEncoder(outputStream, state.encoder);
+            datumWriters.computeIfAbsent(schema, this::createDatumWriter).write(data, state.encoder);
+            state.encoder.flush();
+            byte[] serialized = outputStream.toByteArray();
+            if (serialized.length > MAX_RETAINED_BUFFER_SIZE) {
+                state.outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            }
+            return serialized;
+        } catch (IOException | RuntimeException e) {
+            state.outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            state.encoder = null;
+            throw new SerializationException("Could not serialize " + schema.getFullName() + " for topic " +
+                    topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        encoderState.remove();
+    }
+
+    private DatumWriter<IndexedRecord> createDatumWriter(Schema schema) {
+        SpecificData specificData = SpecificData.getForSchema(schema);
+        if (fixedUuidEncoding) {
+            return new SpecificDatumWriter<>(schema, specificData);
+        }
+        return new LegacyUuidDatumWriter(writerSchemas.get(schema), specificData);
+    }
+
+    private static final class EncoderState {
+        private ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        private BinaryEncoder encoder;
+    }
+}
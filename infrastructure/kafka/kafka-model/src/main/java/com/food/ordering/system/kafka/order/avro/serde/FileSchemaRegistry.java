@@ -0,0 +1,85 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Schema registry stand-in backed by a local directory, one {@code <id>.avsc} file per registered schema.
+ * Used for offline runs and tests where no registry server is reachable.
+ */
+public class FileSchemaRegistry implements SchemaRegistry {
+
+    private static final String SCHEMA_FILE_SUFFIX = ".avsc";
+
+    private final Path directory;
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    public FileSchemaRegistry(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SCHEMA_FILE_SUFFIX))
+                        .forEach(file -> schemasById.put(idOf(file), read(file)));
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not open schema registry directory " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized int register(String subject, Schema schema) {
+        int nextId = 1;
+        for (Map.Entry<Integer, Schema> entry : schemasById.entrySet()) {
+            if (entry.getValue().equals(schema)) {
+                return entry.getKey();
+            }
+            nextId = Math.max(nextId, entry.getKey() + 1);
+        }
+        Path file = directory.resolve(nextId + SCHEMA_FILE_SUFFIX);
+        try {
+            Path tempFile = Files.createTempFile(directory, "schema", ".tmp");
+            Files.writeString(tempFile, schema.toString(true), StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new SerializationException("Could not register schema " + schema.getFullName() + " in " +
+                    directory, e);
+        }
+        schemasById.put(nextId, schema);
+        return nextId;
+    }
+
+    @Override
+    public Schema getById(int id) {
+        return schemasById.computeIfAbsent(id, schemaId -> {
+            Path file = directory.resolve(schemaId + SCHEMA_FILE_SUFFIX);
+            if (!Files.exists(file)) {
+                throw new SerializationException("No schema with id " + schemaId + " in " + directory);
+            }
+            return read(file);
+        });
+    }
+
+    private static int idOf(Path file) {
+        String fileName = file.getFileName().toString();
+        return Integer.parseInt(fileName.substring(0, fileName.length() - SCHEMA_FILE_SUFFIX.length()));
+    }
+
+    private static Schema read(Path file) {
+        try {
+            return new Schema.Parser().parse(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new SerializationException("Could not read schema file " + file, e);
+        }
+    }
+}
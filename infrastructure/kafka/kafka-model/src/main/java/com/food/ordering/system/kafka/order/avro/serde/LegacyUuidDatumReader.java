@@ -0,0 +1,98 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.specific.SpecificData;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reads records written before the ids moved from uuid strings to the {@link Uuid} fixed. Avro schema resolution
+ * cannot turn a string into a fixed, so the record is read with its writer schema and copied into the generated
+ * class field by field, parsing the uuid strings on the way.
+ */
+class LegacyUuidDatumReader implements DatumReader<IndexedRecord> {
+
+    private final GenericDatumReader<GenericRecord> writerSchemaReader;
+
+    private final Schema readerSchema;
+
+    private final SpecificData specificData;
+
+    LegacyUuidDatumReader(Schema writerSchema, Schema readerSchema, SpecificData specificData) {
+        this.writerSchemaReader = new GenericDatumReader<>(writerSchema, writerSchema, new GenericData());
+        this.readerSchema = readerSchema;
+        this.specificData = specificData;
+    }
+
+    @Override
+    public void setSchema(Schema schema) {
+        writerSchemaReader.setSchema(schema);
+    }
+
+    @Override
+    public IndexedRecord read(IndexedRecord reuse, Decoder decoder) throws IOException {
+        return (IndexedRecord) convert(writerSchemaReader.read(null, decoder), readerSchema);
+    }
+
+    private Object convert(Object value, Schema schema) {
+        if (value == null) {
+            return null;
+        }
+        switch (schema.getType()) {
+            case UNION:
+                // unions in the model only make a type nullable
+                return convert(value, schema.getTypes().stream()
+                        .filter(type -> type.getType() != Schema.Type.NULL)
+                        .findFirst()
+                        .orElseThrow());
+            case RECORD:
+                GenericRecord written = (GenericRecord) value;
+                IndexedRecord record = (IndexedRecord) specificData.newRecord(null, schema);
+                for (Schema.Field field : schema.getFields()) {
+                    Schema.Field writtenField = written.getSchema().getField(field.name());
+                    record.put(field.pos(), writtenField == null ? specificData.getDefaultValue(field) :
+                            convert(written.get(writtenField.pos()), field.schema()));
+                }
+                return record;
+            case FIXED:
+                if (value instanceof CharSequence && Uuid.getClassSchema().getFullName().equals(schema.getFullName())) {
+                    return UuidConverter.toAvro(value.toString());
+                }
+                return specificData.createFixed(null, ((GenericFixed) value).bytes(), schema);
+            case ENUM:
+                return specificData.createEnum(value.toString(), schema);
+            case ARRAY:
+                return ((Collection<?>) value).stream()
+                        .map(element -> convert(element, schema.getElementType()))
+                        .collect(Collectors.toList());
+            case MAP:
+                Map<String, Object> map = new LinkedHashMap<>();
+                ((Map<?, ?>) value).forEach((key, element) ->
+                        map.put(key.toString(), convert(element, schema.getValueType())));
+                return map;
+            case STRING:
+                return value.toString();
+            default:
+                LogicalType logicalType = schema.getLogicalType();
+                Conversion<?> conversion = logicalType == null ? null : specificData.getConversionFor(logicalType);
+                return conversion == null ? value :
+                        Conversions.convertToLogicalType(value, schema, logicalType, conversion);
+        }
+    }
+}
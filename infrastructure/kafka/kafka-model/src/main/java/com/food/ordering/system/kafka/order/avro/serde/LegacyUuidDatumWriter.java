@@ -0,0 +1,75 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the generated classes in the schema version that still had uuid strings as ids, for consumers that
+ * cannot read the {@link Uuid} fixed yet. The legacy schema is the generated one with every {@link Uuid}
+ * replaced by a uuid string, so only the id values need converting while writing.
+ */
+class LegacyUuidDatumWriter extends SpecificDatumWriter<IndexedRecord> {
+
+    LegacyUuidDatumWriter(Schema legacySchema, SpecificData specificData) {
+        super(legacySchema, specificData);
+    }
+
+    static Schema toLegacySchema(Schema schema) {
+        return toLegacySchema(schema, new HashMap<>());
+    }
+
+    @Override
+    protected void writeString(Schema schema, Object datum, Encoder out) throws IOException {
+        if (datum instanceof Uuid uuid) {
+            out.writeString(UuidConverter.fromAvro(uuid).toString());
+            return;
+        }
+        super.writeString(schema, datum, out);
+    }
+
+    private static Schema toLegacySchema(Schema schema, Map<String, Schema> legacyRecords) {
+        switch (schema.getType()) {
+            case FIXED:
+                if (!Uuid.getClassSchema().getFullName().equals(schema.getFullName())) {
+                    return schema;
+                }
+                return LogicalTypes.uuid().addToSchema(Schema.create(Schema.Type.STRING));
+            case RECORD:
+                Schema legacyRecord = legacyRecords.get(schema.getFullName());
+                if (legacyRecord != null) {
+                    return legacyRecord;
+                }
+                legacyRecord = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(),
+                        schema.isError());
+                legacyRecord.addAllProps(schema);
+                legacyRecords.put(schema.getFullName(), legacyRecord);
+                List<Schema.Field> fields = schema.getFields().stream()
+                        .map(field -> new Schema.Field(field, toLegacySchema(field.schema(), legacyRecords)))
+                        .collect(Collectors.toList());
+                legacyRecord.setFields(fields);
+                return legacyRecord;
+            case UNION:
+                return Schema.createUnion(schema.getTypes().stream()
+                        .map(type -> toLegacySchema(type, legacyRecords))
+                        .collect(Collectors.toList()));
+            case ARRAY:
+                return Schema.createArray(toLegacySchema(schema.getElementType(), legacyRecords));
+            case MAP:
+                return Schema.createMap(toLegacySchema(schema.getValueType(), legacyRecords));
+            default:
+                return schema;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Client for the Confluent schema registry REST API. Only reached for the first record of a schema on a topic
+ * or for schema ids the {@link AvroSchemaCache} has not seen yet.
+ */
+public class RestSchemaRegistry implements SchemaRegistry {
+
+    private static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    private final String baseUrl;
+
+    public RestSchemaRegistry(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public int register(String subject, Schema schema) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/subjects/" + URLEncoder.encode(subject, StandardCharsets.UTF_8) +
+                            "/versions"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(Map.of("schema", schema.toString()))))
+                    .build();
+            return send(request).get("id").asInt();
+        } catch (IOException e) {
+            throw new SerializationException("Could not register schema " + schema.getFullName() +
+                    " under subject " + subject, e);
+        }
+    }
+
+    @Override
+    public Schema getById(int id) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/schemas/ids/" + id))
+                .timeout(TIMEOUT)
+                .header("Accept", CONTENT_TYPE)
+                .GET()
+                .build();
+        return new Schema.Parser().parse(send(request).get("schema").asText());
+    }
+
+    private JsonNode send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new SerializationException("Schema registry returned " + response.statusCode() + " for " +
+                        request.uri() + ": " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new SerializationException("Could not reach schema registry at " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Interrupted while calling schema registry at " + request.uri(), e);
+        }
+    }
+}
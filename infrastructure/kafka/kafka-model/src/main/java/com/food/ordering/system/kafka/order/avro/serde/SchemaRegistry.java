@@ -0,0 +1,10 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+
+public interface SchemaRegistry {
+
+    int register(String subject, Schema schema);
+
+    Schema getById(int id);
+}
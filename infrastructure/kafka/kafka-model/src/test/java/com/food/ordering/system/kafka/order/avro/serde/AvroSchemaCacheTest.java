@@ -0,0 +1,51 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AvroSchemaCacheTest {
+
+    private final RecordingSchemaRegistry schemaRegistry = new RecordingSchemaRegistry();
+
+    @Test
+    public void testNothingIsRegisteredOnStartUp() {
+        new AvroSchemaCache(schemaRegistry);
+        assertTrue(schemaRegistry.subjects.isEmpty());
+    }
+
+    @Test
+    public void testSchemaIsRegisteredOncePerTopicSubject() {
+        AvroSchemaCache avroSchemaCache = new AvroSchemaCache(schemaRegistry);
+        Schema schema = PaymentRequestAvroModel.getClassSchema();
+
+        int schemaId = avroSchemaCache.getSchemaId(schema, "payment-request-value");
+        assertEquals(schemaId, avroSchemaCache.getSchemaId(schema, "payment-request-value"));
+        assertEquals(List.of("payment-request-value"), schemaRegistry.subjects);
+
+        avroSchemaCache.getSchemaId(schema, "payment-request.DLT-value");
+        assertEquals(List.of("payment-request-value", "payment-request.DLT-value"), schemaRegistry.subjects);
+        assertEquals(schema, avroSchemaCache.getSchema(schemaId));
+    }
+
+    private static class RecordingSchemaRegistry implements SchemaRegistry {
+
+        private final List<String> subjects = new ArrayList<>();
+
+        @Override
+        public int register(String subject, Schema schema) {
+            subjects.add(subject);
+            return 1;
+        }
+
+        @Override
+        public Schema getById(int id) {
+            throw new AssertionError("Schema " + id + " should have been cached on registration");
+        }
+    }
+}
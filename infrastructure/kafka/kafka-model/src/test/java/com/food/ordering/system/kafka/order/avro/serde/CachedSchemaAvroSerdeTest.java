@@ -0,0 +1,217 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedSchemaAvroSerdeTest {
+
+    private static final String TOPIC = "payment-request";
+
+    @TempDir
+    Path registryDirectory;
+
+    @Test
+    public void testRoundTripWithFileRegistry() {
+        Map<String, String> configs = Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroSerializer.UUID_ENCODING_CONFIG, CachedSchemaAvroSerializer.UUID_ENCODING_FIXED,
+                CachedSchemaAvroDeserializer.SPECIFIC_AVRO_READER_CONFIG, "true");
+        CachedSchemaAvroSerializer serializer = new CachedSchemaAvroSerializer();
+        serializer.configure(configs, false);
+        CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(configs, false);
+        assertEquals(0, registryDirectory.toFile().list().length);
+
+        PaymentRequestAvroModel paymentRequest = paymentRequest();
+        byte[] data = serializer.serialize(TOPIC, paymentRequest);
+        ByteBuffer header = ByteBuffer.wrap(data);
+        assertEquals(CachedSchemaAvroSerializer.MAGIC_BYTE, header.get());
+        int schemaId = header.getInt();
+        assertTrue(Files.exists(registryDirectory.resolve(schemaId + ".avsc")));
+
+        IndexedRecord result = deserializer.deserialize(TOPIC, data);
+        assertInstanceOf(PaymentRequestAvroModel.class, result);
+        assertEquals(paymentRequest, result);
+        assertEquals(1, registryDirectory.toFile().list().length);
+    }
+
+    @Test
+    public void testRecordReuse() {
+        Map<String, String> configs = Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroSerializer.UUID_ENCODING_CONFIG, CachedSchemaAvroSerializer.UUID_ENCODING_FIXED,
+                CachedSchemaAvroDeserializer.SPECIFIC_AVRO_READER_CONFIG, "true",
+                CachedSchemaAvroDeserializer.AVRO_RECORD_REUSE_CONFIG, "true");
+        CachedSchemaAvroSerializer serializer = new CachedSchemaAvroSerializer();
+        serializer.configure(configs, false);
+        CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(configs, false);
+
+        PaymentRequestAvroModel first = paymentRequest();
+        PaymentRequestAvroModel second = paymentRequest();
+        IndexedRecord firstResult = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, first));
+        assertEquals(first, firstResult);
+        IndexedRecord secondResult = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, second));
+        assertSame(firstResult, secondResult);
+        assertEquals(second, secondResult);
+    }
+
+    @Test
+    public void testIdsAreWrittenAsUuidStringsByDefault() throws IOException {
+        Map<String, String> configs = Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroDeserializer.SPECIFIC_AVRO_READER_CONFIG, "true");
+        CachedSchemaAvroSerializer serializer = new CachedSchemaAvroSerializer();
+        serializer.configure(configs, false);
+        CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(configs, false);
+
+        RestaurantApprovalRequestAvroModel approvalRequest = restaurantApprovalRequest();
+        byte[] data = serializer.serialize(TOPIC, approvalRequest);
+        int schemaId = ByteBuffer.wrap(data, 1, 4).getInt();
+        Schema writerSchema = new FileSchemaRegistry(registryDirectory).getById(schemaId);
+        Schema legacySchema;
+        try (InputStream inputStream = getClass().getResourceAsStream(
+                "/avro/legacy/restaurant_approval_request_v1.avsc")) {
+            legacySchema = new Schema.Parser().parse(inputStream);
+        }
+        assertEquals(SchemaNormalization.parsingFingerprint64(legacySchema),
+                SchemaNormalization.parsingFingerprint64(writerSchema));
+        assertEquals("uuid", writerSchema.getField("orderId").schema().getLogicalType().getName());
+
+        GenericRecord written = new GenericDatumReader<GenericRecord>(writerSchema).read(null,
+                DecoderFactory.get().binaryDecoder(data, 5, data.length - 5, null));
+        assertEquals(UuidConverter.fromAvro(approvalRequest.getOrderId()).toString(),
+                written.get("orderId").toString());
+        GenericRecord product = (GenericRecord) ((List<?>) written.get("products")).get(0);
+        assertEquals(UuidConverter.fromAvro(approvalRequest.getProducts().get(0).getId()).toString(),
+                product.get("id").toString());
+
+        assertEquals(approvalRequest, deserializer.deserialize(TOPIC, data));
+    }
+
+    @Test
+    public void testUnknownUuidEncodingIsRejected() {
+        CachedSchemaAvroSerializer serializer = new CachedSchemaAvroSerializer();
+        assertThrows(SerializationException.class, () -> serializer.configure(Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroSerializer.UUID_ENCODING_CONFIG, "bytes"), false));
+    }
+
+    @Test
+    public void testLegacyUuidStringRecordIsUpgraded() throws IOException {
+        CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroDeserializer.SPECIFIC_AVRO_READER_CONFIG, "true"), false);
+        Schema legacySchema;
+        try (InputStream inputStream = getClass().getResourceAsStream("/avro/legacy/payment_response_v1.avsc")) {
+            legacySchema = new Schema.Parser().parse(inputStream);
+        }
+        int legacySchemaId = new FileSchemaRegistry(registryDirectory).register(TOPIC + "-value", legacySchema);
+
+        UUID orderId = UUID.randomUUID();
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        GenericData genericData = new GenericData();
+        genericData.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        genericData.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+        GenericRecord legacyRecord = new GenericData.Record(legacySchema);
+        legacyRecord.put("id", orderId.toString());
+        legacyRecord.put("sagaId", orderId.toString());
+        legacyRecord.put("paymentId", orderId.toString());
+        legacyRecord.put("customerId", orderId.toString());
+        legacyRecord.put("orderId", orderId.toString());
+        legacyRecord.put("price", new BigDecimal("25.00"));
+        legacyRecord.put("createdAt", createdAt);
+        legacyRecord.put("paymentStatus", new GenericData.EnumSymbol(
+                legacySchema.getField("paymentStatus").schema(), "COMPLETED"));
+        legacyRecord.put("failureMessages", List.of());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(ByteBuffer.allocate(5).put(CachedSchemaAvroSerializer.MAGIC_BYTE).putInt(legacySchemaId)
+                .array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        new GenericDatumWriter<GenericRecord>(legacySchema, genericData).write(legacyRecord, encoder);
+        encoder.flush();
+
+        IndexedRecord result = deserializer.deserialize(TOPIC, outputStream.toByteArray());
+        PaymentResponseAvroModel paymentResponse = assertInstanceOf(PaymentResponseAvroModel.class, result);
+        assertEquals(orderId, UuidConverter.fromAvro(paymentResponse.getOrderId()));
+        assertEquals(orderId, UuidConverter.fromAvro(paymentResponse.getPaymentId()));
+        assertEquals(new BigDecimal("25.00"), paymentResponse.getPrice());
+        assertEquals(createdAt, paymentResponse.getCreatedAt());
+        assertEquals(PaymentStatus.COMPLETED, paymentResponse.getPaymentStatus());
+        assertTrue(paymentResponse.getFailureMessages().isEmpty());
+    }
+
+    @Test
+    public void testUnknownMagicByteIsRejected() {
+        CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(Map.of(CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG,
+                "file:" + registryDirectory), false);
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, new byte[]{1, 0, 0, 0, 1}));
+    }
+
+    private RestaurantApprovalRequestAvroModel restaurantApprovalRequest() {
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setRestaurantId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setOrderId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(List.of(Product.newBuilder()
+                        .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                        .setQuantity(2)
+                        .build()))
+                .setPrice(new BigDecimal("25.00"))
+                .setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+    }
+
+    private PaymentRequestAvroModel paymentRequest() {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setCustomerId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setOrderId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setPrice(new BigDecimal("25.00"))
+                .setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+}
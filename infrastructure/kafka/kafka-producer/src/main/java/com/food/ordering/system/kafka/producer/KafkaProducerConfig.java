@@ -2,12 +2,16 @@ package com.food.ordering.system.kafka.producer;
 
 import com.food.ordering.system.kafka.data.KafkaConfigData;
 import com.food.ordering.system.kafka.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.serde.CachedSchemaAvroSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.io.Serializable;
@@ -19,11 +23,14 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 
     private final KafkaConfigData kafkaConfigData;
     private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     public KafkaProducerConfig(KafkaConfigData kafkaConfigData,
-                               KafkaProducerConfigData kafkaProducerConfigData) {
+                               KafkaProducerConfigData kafkaProducerConfigData,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -40,16 +47,72 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
         props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
         props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        putIfSet(props, ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, kafkaProducerConfigData.getEnableIdempotence());
+        putIfSet(props, ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                kafkaProducerConfigData.getMaxInFlightRequestsPerConnection());
+        putIfSet(props, ProducerConfig.BUFFER_MEMORY_CONFIG, kafkaProducerConfigData.getBufferMemory());
+        putIfSet(props, ProducerConfig.MAX_BLOCK_MS_CONFIG, kafkaProducerConfigData.getMaxBlockMs());
+        putIfSet(props, CachedSchemaAvroSerializer.UUID_ENCODING_CONFIG, kafkaProducerConfigData.getAvroUuidEncoding());
+        return props;
+    }
+
+    public Map<String, Object> producerConfig(String profileName) {
+        Map<String, KafkaProducerConfigData.Profile> profiles = kafkaProducerConfigData.getProfiles();
+        KafkaProducerConfigData.Profile profile = profiles == null ? null : profiles.get(profileName);
+        if (profile == null) {
+            throw new IllegalStateException("Unknown kafka producer profile: " + profileName);
+        }
+        Map<String, Object> props = new HashMap<>(producerConfig());
+        if (profile.getBatchSizeBoostFactor() != null) {
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() *
+                    profile.getBatchSizeBoostFactor());
+        }
+        putIfSet(props, ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        putIfSet(props, ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        putIfSet(props, ProducerConfig.ACKS_CONFIG, profile.getAcks());
+        putIfSet(props, ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.getEnableIdempotence());
+        putIfSet(props, ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                profile.getMaxInFlightRequestsPerConnection());
+        putIfSet(props, ProducerConfig.BUFFER_MEMORY_CONFIG, profile.getBufferMemory());
+        putIfSet(props, ProducerConfig.MAX_BLOCK_MS_CONFIG, profile.getMaxBlockMs());
         return props;
     }
 
     @Bean
     public ProducerFactory<K, V> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfig());
+        return createProducerFactory(producerConfig());
     }
 
     @Bean
     public KafkaTemplate<K, V> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    @Bean
+    public ProfiledKafkaTemplates<K, V> profiledKafkaTemplates() {
+        Map<String, KafkaTemplate<K, V>> kafkaTemplatesByProfile = new HashMap<>();
+        Map<String, KafkaTemplate<K, V>> kafkaTemplatesByTopic = new HashMap<>();
+        Map<String, String> topicProfiles = kafkaProducerConfigData.getTopicProfiles();
+        if (topicProfiles != null) {
+            topicProfiles.forEach((topicName, profileName) -> kafkaTemplatesByTopic.put(topicName,
+                    kafkaTemplatesByProfile.computeIfAbsent(profileName, this::createProfileKafkaTemplate)));
+        }
+        return new ProfiledKafkaTemplates<>(kafkaTemplate(), kafkaTemplatesByTopic);
+    }
+
+    private KafkaTemplate<K, V> createProfileKafkaTemplate(String profileName) {
+        return new KafkaTemplate<>(createProducerFactory(producerConfig(profileName)));
+    }
+
+    private DefaultKafkaProducerFactory<K, V> createProducerFactory(Map<String, Object> config) {
+        DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(config);
+        meterRegistry.ifAvailable(registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+        return producerFactory;
+    }
+
+    private static void putIfSet(Map<String, Object> props, String key, Object value) {
+        if (value != null) {
+            props.put(key, value);
+        }
+    }
 }
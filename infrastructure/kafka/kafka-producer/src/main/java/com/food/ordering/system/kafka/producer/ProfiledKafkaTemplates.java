@@ -0,0 +1,41 @@
+package com.food.ordering.system.kafka.producer;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kafka templates per topic, built from the producer profile the topic is mapped to in
+ * {@code kafka-producer-config.topic-profiles}. Topics without a profile use the default template.
+ */
+public class ProfiledKafkaTemplates<K extends Serializable, V extends SpecificRecordBase> {
+
+    private final KafkaTemplate<K, V> defaultKafkaTemplate;
+
+    private final Map<String, KafkaTemplate<K, V>> kafkaTemplatesByTopic;
+
+    public ProfiledKafkaTemplates(KafkaTemplate<K, V> defaultKafkaTemplate,
+                                  Map<String, KafkaTemplate<K, V>> kafkaTemplatesByTopic) {
+        this.defaultKafkaTemplate = defaultKafkaTemplate;
+        this.kafkaTemplatesByTopic = Map.copyOf(kafkaTemplatesByTopic);
+    }
+
+    public KafkaTemplate<K, V> forTopic(String topicName) {
+        return kafkaTemplatesByTopic.getOrDefault(topicName, defaultKafkaTemplate);
+    }
+
+    public void close() {
+        Set<KafkaTemplate<K, V>> kafkaTemplates = Collections.newSetFromMap(new IdentityHashMap<>());
+        kafkaTemplates.addAll(kafkaTemplatesByTopic.values());
+        kafkaTemplates.forEach(kafkaTemplate -> {
+            kafkaTemplate.destroy();
+            kafkaTemplate.getProducerFactory().reset();
+        });
+        defaultKafkaTemplate.destroy();
+    }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import com.food.ordering.system.kafka.data.KafkaProducerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Send counters and latency histograms per topic, plus the sampling decision for payload logging.
+ * Meters are cached per topic so the send path does not go through the registry lookup.
+ */
+@Component
+public class KafkaSendMetrics {
+
+    private static final String SEND_TIMER = "kafka.producer.send";
+
+    private final MeterRegistry meterRegistry;
+
+    private final double payloadLogSampleRate;
+
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    public KafkaSendMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                            KafkaProducerConfigData kafkaProducerConfigData) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Double sampleRate = kafkaProducerConfigData.getPayloadLogSampleRate();
+        this.payloadLogSampleRate = sampleRate == null ? 0 : sampleRate;
+    }
+
+    public boolean samplePayload() {
+        return payloadLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < payloadLogSampleRate;
+    }
+
+    public void recordSend(String topicName, long startNanos, boolean success) {
+        Map<String, Timer> timers = success ? successTimers : failureTimers;
+        timers.computeIfAbsent(topicName, topic -> createTimer(topic, success))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer createTimer(String topicName, boolean success) {
+        return Timer.builder(SEND_TIMER)
+                .description("Time from send until the broker acknowledged or rejected the record")
+                .tag("topic", topicName)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,13 +1,13 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.kafka.producer.ProfiledKafkaTemplates;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.metrics.KafkaSendMetrics;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
-import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.KafkaException;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
@@ -18,31 +18,37 @@ import java.util.concurrent.CompletableFuture;
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
-    private final KafkaTemplate<K, V> kafkaTemplate;
+    private final ProfiledKafkaTemplates<K, V> profiledKafkaTemplates;
 
-    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    private final KafkaSendMetrics kafkaSendMetrics;
+
+    public KafkaProducerImpl(ProfiledKafkaTemplates<K, V> profiledKafkaTemplates, KafkaSendMetrics kafkaSendMetrics) {
+        this.profiledKafkaTemplates = profiledKafkaTemplates;
+        this.kafkaSendMetrics = kafkaSendMetrics;
     }
 
     @Override
     public void send(String topicName, K key, V message, CompletableFuture<SendResult<K, V>> callback) {
-        log.info("Sending kafka message={} to topic={}", message, topicName);
+        if (kafkaSendMetrics.samplePayload()) {
+            log.info("Sending kafka message={} to topic={}", message, topicName);
+        }
+        long startNanos = System.nanoTime();
         try {
-            CompletableFuture<SendResult<K, V>> future = kafkaTemplate.send(topicName, key, message);
+            CompletableFuture<SendResult<K, V>> future = profiledKafkaTemplates.forTopic(topicName)
+                    .send(topicName, key, message);
             future.whenComplete((result, ex) -> {
+                kafkaSendMetrics.recordSend(topicName, startNanos, ex == null);
                 if (ex != null) {
                     log.error("Failed to send message={} to topic={}, exception={}", message, topicName,
                             ex.getMessage());
                     callback.completeExceptionally(ex);
                 } else {
-                    RecordMetadata metadata = result.getRecordMetadata();
-                    log.info("Message sent successfully to topic={}, partition={}, offset={}",
-                            topicName, metadata.partition(), metadata.offset());
                     callback.complete(result);
                 }
             });
 
         } catch (KafkaException e) {
+            kafkaSendMetrics.recordSend(topicName, startNanos, false);
             log.error("Error on kafka producer with key: {}, message: {} and exception: {}",
                     key, message, e.getMessage());
             throw new KafkaProducerException("Error on kafka producer with key: "
@@ -52,9 +58,9 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
 
     @PreDestroy
     public void close() {
-        if (kafkaTemplate != null) {
+        if (profiledKafkaTemplates != null) {
             log.info("Closing kafka producer");
-            kafkaTemplate.destroy();
+            profiledKafkaTemplates.close();
         }
     }
 }
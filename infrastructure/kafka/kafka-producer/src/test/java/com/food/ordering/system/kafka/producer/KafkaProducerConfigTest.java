@@ -0,0 +1,124 @@
+package com.food.ordering.system.kafka.producer;
+
+import com.food.ordering.system.kafka.data.KafkaConfigData;
+import com.food.ordering.system.kafka.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KafkaProducerConfigTest {
+
+    private KafkaProducerConfigData kafkaProducerConfigData;
+
+    private KafkaProducerConfig<String, PaymentRequestAvroModel> kafkaProducerConfig;
+
+    @BeforeEach
+    public void init() {
+        KafkaConfigData kafkaConfigData = new KafkaConfigData();
+        kafkaConfigData.setBootstrapServers("localhost:19092");
+        kafkaConfigData.setSchemaRegistryUrlKey("schema.registry.url");
+        kafkaConfigData.setSchemaRegistryUrl("http://localhost:8081");
+
+        kafkaProducerConfigData = new KafkaProducerConfigData();
+        kafkaProducerConfigData.setKeySerializerClass("org.apache.kafka.common.serialization.StringSerializer");
+        kafkaProducerConfigData.setValueSerializerClass(
+                "com.food.ordering.system.kafka.order.avro.serde.CachedSchemaAvroSerializer");
+        kafkaProducerConfigData.setCompressionType("snappy");
+        kafkaProducerConfigData.setAcks("all");
+        kafkaProducerConfigData.setBatchSize(16384);
+        kafkaProducerConfigData.setBatchSizeBoostFactor(100);
+        kafkaProducerConfigData.setLingerMs(5);
+        kafkaProducerConfigData.setRequestTimeoutMs(60000);
+        kafkaProducerConfigData.setRetryCount(5);
+        kafkaProducerConfigData.setEnableIdempotence(true);
+
+        KafkaProducerConfigData.Profile lowLatency = new KafkaProducerConfigData.Profile();
+        lowLatency.setAcks("1");
+        lowLatency.setEnableIdempotence(false);
+        lowLatency.setBatchSizeBoostFactor(1);
+        lowLatency.setLingerMs(0);
+        KafkaProducerConfigData.Profile highThroughput = new KafkaProducerConfigData.Profile();
+        highThroughput.setCompressionType("lz4");
+        highThroughput.setLingerMs(50);
+        highThroughput.setBufferMemory(134217728L);
+        kafkaProducerConfigData.setProfiles(Map.of(
+                "low-latency", lowLatency,
+                "high-throughput", highThroughput));
+
+        kafkaProducerConfig = new KafkaProducerConfig<>(kafkaConfigData, kafkaProducerConfigData,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    public void testUnsetOptionalSettingsAreLeftToTheClient() {
+        Map<String, Object> producerConfig = kafkaProducerConfig.producerConfig();
+        assertEquals(true, producerConfig.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals(16384 * 100, producerConfig.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertFalse(producerConfig.containsKey(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        assertFalse(producerConfig.containsKey(ProducerConfig.BUFFER_MEMORY_CONFIG));
+        assertFalse(producerConfig.containsKey(ProducerConfig.MAX_BLOCK_MS_CONFIG));
+    }
+
+    @Test
+    public void testProfileOverridesOnlyItsOwnSettings() {
+        Map<String, Object> lowLatency = kafkaProducerConfig.producerConfig("low-latency");
+        assertEquals("1", lowLatency.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(false, lowLatency.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals(16384, lowLatency.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals(0, lowLatency.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("snappy", lowLatency.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+
+        Map<String, Object> highThroughput = kafkaProducerConfig.producerConfig("high-throughput");
+        assertEquals("lz4", highThroughput.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(50, highThroughput.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(134217728L, highThroughput.get(ProducerConfig.BUFFER_MEMORY_CONFIG));
+        assertEquals("all", highThroughput.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(16384 * 100, highThroughput.get(ProducerConfig.BATCH_SIZE_CONFIG));
+    }
+
+    @Test
+    public void testUnknownProfileIsRejected() {
+        assertThrows(IllegalStateException.class, () -> kafkaProducerConfig.producerConfig("exactly-once"));
+    }
+
+    @Test
+    public void testTopicsAreRoutedToTheirProfileTemplate() {
+        kafkaProducerConfigData.setTopicProfiles(Map.of(
+                "payment-request", "high-throughput",
+                "restaurant-approval-request", "high-throughput",
+                "customer", "low-latency"));
+        ProfiledKafkaTemplates<String, PaymentRequestAvroModel> profiledKafkaTemplates =
+                kafkaProducerConfig.profiledKafkaTemplates();
+        try {
+            KafkaTemplate<String, PaymentRequestAvroModel> paymentRequest =
+                    profiledKafkaTemplates.forTopic("payment-request");
+            assertSame(paymentRequest, profiledKafkaTemplates.forTopic("restaurant-approval-request"));
+            assertEquals(kafkaProducerConfig.producerConfig("high-throughput"),
+                    paymentRequest.getProducerFactory().getConfigurationProperties());
+            assertEquals(kafkaProducerConfig.producerConfig("low-latency"),
+                    profiledKafkaTemplates.forTopic("customer").getProducerFactory().getConfigurationProperties());
+
+            KafkaTemplate<String, PaymentRequestAvroModel> unmapped =
+                    profiledKafkaTemplates.forTopic("payment-response");
+            assertNotSame(paymentRequest, unmapped);
+            assertEquals(kafkaProducerConfig.producerConfig(),
+                    unmapped.getProducerFactory().getConfigurationProperties());
+        } finally {
+            profiledKafkaTemplates.close();
+        }
+    }
+
+    @Test
+    public void testTopicMappedToUnknownProfileIsRejected() {
+        kafkaProducerConfigData.setTopicProfiles(Map.of("payment-request", "exactly-once"));
+        assertThrows(IllegalStateException.class, () -> kafkaProducerConfig.profiledKafkaTemplates());
+    }
+}
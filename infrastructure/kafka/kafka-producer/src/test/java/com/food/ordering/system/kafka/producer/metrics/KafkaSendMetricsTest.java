@@ -0,0 +1,65 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import com.food.ordering.system.kafka.data.KafkaProducerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KafkaSendMetricsTest {
+
+    private static final String TOPIC = "payment-request";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testPayloadIsNotSampledWhenRateIsNotSet() {
+        KafkaSendMetrics kafkaSendMetrics = kafkaSendMetrics(null);
+        assertTrue(IntStream.range(0, 1000).noneMatch(i -> kafkaSendMetrics.samplePayload()));
+    }
+
+    @Test
+    public void testPayloadIsNotSampledWithZeroRate() {
+        KafkaSendMetrics kafkaSendMetrics = kafkaSendMetrics(0.0);
+        assertTrue(IntStream.range(0, 1000).noneMatch(i -> kafkaSendMetrics.samplePayload()));
+    }
+
+    @Test
+    public void testEveryPayloadIsSampledWithFullRate() {
+        KafkaSendMetrics kafkaSendMetrics = kafkaSendMetrics(1.0);
+        assertTrue(IntStream.range(0, 1000).allMatch(i -> kafkaSendMetrics.samplePayload()));
+    }
+
+    @Test
+    public void testSendsAreTimedPerTopicAndOutcome() {
+        KafkaSendMetrics kafkaSendMetrics = kafkaSendMetrics(null);
+        long startNanos = System.nanoTime();
+        kafkaSendMetrics.recordSend(TOPIC, startNanos, true);
+        kafkaSendMetrics.recordSend(TOPIC, startNanos, true);
+        kafkaSendMetrics.recordSend(TOPIC, startNanos, false);
+        kafkaSendMetrics.recordSend("restaurant-approval-request", startNanos, false);
+
+        assertEquals(2, sendTimer(TOPIC, "success").count());
+        assertEquals(1, sendTimer(TOPIC, "failure").count());
+        assertEquals(1, sendTimer("restaurant-approval-request", "failure").count());
+        assertNull(meterRegistry.find("kafka.producer.send").tags("topic", "restaurant-approval-request",
+                "outcome", "success").timer());
+    }
+
+    private Timer sendTimer(String topic, String outcome) {
+        return meterRegistry.get("kafka.producer.send").tags("topic", topic, "outcome", outcome).timer();
+    }
+
+    private KafkaSendMetrics kafkaSendMetrics(Double payloadLogSampleRate) {
+        KafkaProducerConfigData kafkaProducerConfigData = new KafkaProducerConfigData();
+        kafkaProducerConfigData.setPayloadLogSampleRate(payloadLogSampleRate);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        return new KafkaSendMetrics(beanFactory.getBeanProvider(MeterRegistry.class), kafkaProducerConfigData);
+    }
+}
@@ -1,14 +1,21 @@
 package com.food.ordering.system.service.application.rest;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.port.input.service.OrderApplicationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 
@@ -19,8 +26,12 @@ public class OrderController {
 
     private final OrderApplicationService orderApplicationService;
 
-    public OrderController(OrderApplicationService orderApplicationService) {
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderController(OrderApplicationService orderApplicationService,
+                           OrderServiceConfigData orderServiceConfigData) {
         this.orderApplicationService = orderApplicationService;
+        this.orderServiceConfigData = orderServiceConfigData;
     }
 
     @PostMapping
@@ -32,6 +43,15 @@ public class OrderController {
         return ResponseEntity.ok(createOrderResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CreateOrdersResponse> createOrders(@RequestBody List<CreateOrderCommand> createOrderCommands) {
+        log.info("Creating batch of {} orders", createOrderCommands.size());
+        CreateOrdersResponse createOrdersResponse = orderApplicationService.createOrders(createOrderCommands);
+        log.info("Order batch created: {}, failed: {}",
+                createOrdersResponse.getCreatedCount(), createOrdersResponse.getFailedCount());
+        return ResponseEntity.ok(createOrdersResponse);
+    }
+
     @GetMapping("/{trackingId}")
     public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
         log.info("Get order by trackingId: {}", trackingId);
@@ -41,6 +61,32 @@ public class OrderController {
                         .build()
         );
         log.info("Returning order status with trackingId: {}", trackOrderResponse.getOrderTrackingId());
-        return ResponseEntity.ok(trackOrderResponse);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(orderStateETag(trackOrderResponse))
+                .body(trackOrderResponse);
+    }
+
+    @GetMapping(value = "/{trackingId}/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable UUID trackingId) {
+        log.debug("Subscribing to order status changes with trackingId: {}", trackingId);
+        TrackOrderQuery trackOrderQuery = TrackOrderQuery.builder()
+                .orderTrackingId(trackingId)
+                .build();
+        OrderStatusEmitter orderStatusEmitter =
+                new OrderStatusEmitter(orderServiceConfigData.getOrderStatusStreamTimeoutMs());
+        Runnable unsubscribe = () -> orderApplicationService.unsubscribeFromOrderStatus(trackOrderQuery,
+                orderStatusEmitter);
+        orderStatusEmitter.onCompletion(unsubscribe);
+        orderStatusEmitter.onTimeout(unsubscribe);
+        orderStatusEmitter.onError(error -> unsubscribe.run());
+        orderStatusEmitter.onOrderStatusChange(
+                orderApplicationService.subscribeToOrderStatus(trackOrderQuery, orderStatusEmitter));
+        return orderStatusEmitter;
+    }
+
+    private String orderStateETag(TrackOrderResponse trackOrderResponse) {
+        return trackOrderResponse.getOrderStatus().name() + "-" +
+                Integer.toHexString(Objects.hashCode(trackOrderResponse.getFailureMessages()));
     }
 }
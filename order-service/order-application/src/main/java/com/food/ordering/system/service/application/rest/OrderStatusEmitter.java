@@ -0,0 +1,42 @@
+package com.food.ordering.system.service.application.rest;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderStatusSubscriber;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+class OrderStatusEmitter extends SseEmitter implements OrderStatusSubscriber {
+
+    private static final String ORDER_STATUS_EVENT = "order-status";
+
+    private int lastSentStatusOrdinal = -1;
+
+    OrderStatusEmitter(Long timeout) {
+        super(timeout);
+    }
+
+    @Override
+    public synchronized void onOrderStatusChange(TrackOrderResponse trackOrderResponse) {
+        // Order statuses only move forward in declaration order, so anything not newer than the
+        // last pushed status is a stale or duplicate update.
+        OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+        if (orderStatus.ordinal() <= lastSentStatusOrdinal) {
+            return;
+        }
+        lastSentStatusOrdinal = orderStatus.ordinal();
+        try {
+            send(event()
+                    .name(ORDER_STATUS_EVENT)
+                    .id(orderStatus.name())
+                    .data(trackOrderResponse, MediaType.APPLICATION_JSON));
+            if (orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED) {
+                complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            completeWithError(e);
+        }
+    }
+}
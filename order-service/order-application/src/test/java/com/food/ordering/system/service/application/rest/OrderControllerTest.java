@@ -0,0 +1,90 @@
+package com.food.ordering.system.service.application.rest;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class OrderControllerTest {
+
+    private static final String ORDERS_MEDIA_TYPE = "application/vnd.api.v1+json";
+
+    private final UUID trackingId = UUID.randomUUID();
+
+    private OrderApplicationService orderApplicationService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init() {
+        orderApplicationService = mock(OrderApplicationService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new OrderController(orderApplicationService, new OrderServiceConfigData())).build();
+    }
+
+    @Test
+    public void testTrackingResponseCarriesETag() throws Exception {
+        returnStatus(OrderStatus.PAID);
+        mockMvc.perform(get("/orders/{trackingId}", trackingId).accept(ORDERS_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.orderTrackingId").value(trackingId.toString()))
+                .andExpect(jsonPath("$.orderStatus").value("PAID"));
+    }
+
+    @Test
+    public void testMatchingETagReturnsNotModifiedWithoutBody() throws Exception {
+        returnStatus(OrderStatus.PAID);
+        String eTag = currentETag();
+        mockMvc.perform(get("/orders/{trackingId}", trackingId).accept(ORDERS_MEDIA_TYPE)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testStatusChangeReturnsNewETag() throws Exception {
+        returnStatus(OrderStatus.PAID);
+        String paidETag = currentETag();
+        returnStatus(OrderStatus.APPROVED);
+        String approvedETag = mockMvc.perform(get("/orders/{trackingId}", trackingId).accept(ORDERS_MEDIA_TYPE)
+                        .header(HttpHeaders.IF_NONE_MATCH, paidETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderStatus").value("APPROVED"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(approvedETag);
+        assertNotEquals(paidETag, approvedETag);
+    }
+
+    private String currentETag() throws Exception {
+        return mockMvc.perform(get("/orders/{trackingId}", trackingId).accept(ORDERS_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private void returnStatus(OrderStatus orderStatus) {
+        when(orderApplicationService.trackOrder(any(TrackOrderQuery.class))).thenReturn(TrackOrderResponse.builder()
+                .orderTrackingId(trackingId)
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.food.ordering.system.service.application.rest;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.tracking.OrderStatusSubscriptionRegistry;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderStatusEmitterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderStatusPushThreads(1);
+        orderServiceConfigData.setOrderStatusPushQueueCapacity(1);
+        orderStatusSubscriptionRegistry = new OrderStatusSubscriptionRegistry(orderServiceConfigData);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        release.countDown();
+        orderStatusSubscriptionRegistry.shutdown();
+    }
+
+    @Test
+    public void testTerminalStatusCompletesEmitterWhenPushQueueIsFull() throws InterruptedException {
+        CountDownLatch pushThreadBlocked = new CountDownLatch(1);
+        TrackingId busyTrackingId = new TrackingId(UUID.randomUUID());
+        orderStatusSubscriptionRegistry.subscribe(busyTrackingId, response -> {
+            pushThreadBlocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        OrderStatusEmitter orderStatusEmitter = new OrderStatusEmitter(0L);
+        orderStatusSubscriptionRegistry.subscribe(trackingId, orderStatusEmitter);
+
+        orderStatusSubscriptionRegistry.publish(List.of(trackOrderResponse(busyTrackingId, OrderStatus.PAID)));
+        assertTrue(pushThreadBlocked.await(5, TimeUnit.SECONDS));
+        orderStatusSubscriptionRegistry.publish(List.of(trackOrderResponse(busyTrackingId, OrderStatus.APPROVED)));
+        orderStatusSubscriptionRegistry.publish(List.of(trackOrderResponse(trackingId, OrderStatus.PAID),
+                trackOrderResponse(trackingId, OrderStatus.CANCELLED)));
+
+        assertEquals(1, orderStatusSubscriptionRegistry.getDroppedPushCount());
+        // a completed emitter refuses further events
+        assertThrows(IllegalStateException.class, () -> orderStatusEmitter.send("late"));
+    }
+
+    private TrackOrderResponse trackOrderResponse(TrackingId trackingId, OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(trackingId.getValue())
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.*;
+import com.food.ordering.system.kafka.order.avro.serde.CachedSchemaAvroDeserializer;
+import com.food.ordering.system.kafka.order.avro.serde.CachedSchemaAvroSerializer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Encoding and decoding of the kafka-model records on the order-service hot paths. per-call allocates the
+ * stream, encoder/decoder, datum writer/reader and record for every message; pooled uses the serde with its
+ * per-thread encoder and decoder; pooled-record-reuse additionally decodes into the previous record.
+ * Run with {@code -prof gc} to compare gc.alloc.rate.norm, the bytes allocated per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroSerializationBenchmark {
+
+    private static final String TOPIC = "benchmark";
+
+    private static final int HEADER_SIZE = 5;
+
+    @Param({"per-call", "pooled", "pooled-record-reuse"})
+    private String encoding;
+
+    private Path registryDirectory;
+    private CachedSchemaAvroSerializer serializer;
+    private CachedSchemaAvroDeserializer deserializer;
+    private PaymentRequestAvroModel paymentRequest;
+    private RestaurantApprovalRequestAvroModel restaurantApprovalRequest;
+    private byte[] paymentResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        registryDirectory = Files.createTempDirectory("schema-registry");
+        Map<String, String> configs = Map.of(
+                CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, "file:" + registryDirectory,
+                CachedSchemaAvroSerializer.UUID_ENCODING_CONFIG, CachedSchemaAvroSerializer.UUID_ENCODING_FIXED,
+                CachedSchemaAvroDeserializer.SPECIFIC_AVRO_READER_CONFIG, "true",
+                CachedSchemaAvroDeserializer.AVRO_RECORD_REUSE_CONFIG,
+                String.valueOf("pooled-record-reuse".equals(encoding)));
+        serializer = new CachedSchemaAvroSerializer();
+        serializer.configure(configs, false);
+        deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(configs, false);
+
+        paymentRequest = PaymentRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setCustomerId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setOrderId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setPrice(new BigDecimal("125.00"))
+                .setCreatedAt(Instant.now())
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+        restaurantApprovalRequest = RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setRestaurantId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setOrderId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(IntStream.range(0, 5)
+                        .mapToObj(i -> Product.newBuilder()
+                                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                                .setQuantity(i + 1)
+                                .build())
+                        .collect(Collectors.toList()))
+                .setPrice(new BigDecimal("125.00"))
+                .setCreatedAt(Instant.now())
+                .build();
+        paymentResponse = serializer.serialize(TOPIC, PaymentResponseAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setPaymentId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setCustomerId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setOrderId(UuidConverter.toAvro(UUID.randomUUID()))
+                .setPrice(new BigDecimal("125.00"))
+                .setCreatedAt(Instant.now())
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of())
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        serializer.close();
+        deserializer.close();
+        try (Stream<Path> files = Files.walk(registryDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePaymentRequest() {
+        return serialize(paymentRequest);
+    }
+
+    @Benchmark
+    public byte[] serializeRestaurantApprovalRequest() {
+        return serialize(restaurantApprovalRequest);
+    }
+
+    @Benchmark
+    public IndexedRecord deserializePaymentResponse() {
+        if ("per-call".equals(encoding)) {
+            SpecificDatumReader<IndexedRecord> datumReader = new SpecificDatumReader<>(
+                    PaymentResponseAvroModel.getClassSchema(), PaymentResponseAvroModel.getClassSchema(),
+                    SpecificData.getForClass(PaymentResponseAvroModel.class));
+            try {
+                return datumReader.read(null, DecoderFactory.get().binaryDecoder(paymentResponse, HEADER_SIZE,
+                        paymentResponse.length - HEADER_SIZE, null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return deserializer.deserialize(TOPIC, paymentResponse);
+    }
+
+    private byte[] serialize(IndexedRecord record) {
+        if (!"per-call".equals(encoding)) {
+            return serializer.serialize(TOPIC, record);
+        }
+        Schema schema = record.getSchema();
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            outputStream.write(new byte[HEADER_SIZE]);
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+            new SpecificDatumWriter<IndexedRecord>(schema, SpecificData.getForSchema(schema)).write(record, encoder);
+            encoder.flush();
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.kafka.data.KafkaConfigData;
+import com.food.ordering.system.kafka.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.serde.CachedSchemaAvroSerializer;
+import com.food.ordering.system.kafka.producer.KafkaProducerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The kafka-producer-config profiles against the docker-compose cluster in infrastructure/docker-compose
+ * (override the brokers with -Dkafka.bootstrap-servers). sendAndAwait measures the latency of a single
+ * acknowledged send, sendBurst the throughput of 1000 sends followed by a flush. "base" runs the settings
+ * without a profile, which topics not mapped to a profile use. The values mirror the order-container
+ * application.yml.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class KafkaProducerProfileBenchmark {
+
+    private static final String TOPIC = "benchmark-producer-profiles";
+
+    private static final int BURST_SIZE = 1000;
+
+    private static final int ADMIN_TIMEOUT_MS = 10000;
+
+    private static final String BASE_SETTINGS = "base";
+
+    @Param({"low-latency", "high-throughput", BASE_SETTINGS})
+    private String profile;
+
+    private KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private List<ProducerRecord<String, PaymentRequestAvroModel>> records;
+    private int nextRecord;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        KafkaConfigData kafkaConfigData = new KafkaConfigData();
+        kafkaConfigData.setBootstrapServers(System.getProperty("kafka.bootstrap-servers",
+                "localhost:19092,localhost:29092,localhost:39092"));
+        kafkaConfigData.setSchemaRegistryUrlKey(CachedSchemaAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG);
+        kafkaConfigData.setSchemaRegistryUrl("file:" + Files.createTempDirectory("schema-registry"));
+        createTopic(kafkaConfigData.getBootstrapServers());
+
+        KafkaProducerConfig<String, PaymentRequestAvroModel> kafkaProducerConfig = new KafkaProducerConfig<>(
+                kafkaConfigData, producerConfigData(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        kafkaProducer = new KafkaProducer<>(BASE_SETTINGS.equals(profile) ? kafkaProducerConfig.producerConfig() :
+                kafkaProducerConfig.producerConfig(profile));
+
+        records = new ArrayList<>(BURST_SIZE);
+        for (int i = 0; i < BURST_SIZE; i++) {
+            UUID orderId = UUID.randomUUID();
+            records.add(new ProducerRecord<>(TOPIC, orderId.toString(), PaymentRequestAvroModel.newBuilder()
+                    .setId(UuidConverter.toAvro(UUID.randomUUID()))
+                    .setSagaId(UuidConverter.toAvro(UUID.randomUUID()))
+                    .setCustomerId(UuidConverter.toAvro(UUID.randomUUID()))
+                    .setOrderId(UuidConverter.toAvro(orderId))
+                    .setPrice(new BigDecimal("125.00"))
+                    .setCreatedAt(Instant.now())
+                    .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                    .build()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        kafkaProducer.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RecordMetadata sendAndAwait() throws ExecutionException, InterruptedException {
+        nextRecord = (nextRecord + 1) % BURST_SIZE;
+        return kafkaProducer.send(records.get(nextRecord)).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BURST_SIZE)
+    public void sendBurst() throws ExecutionException, InterruptedException {
+        List<Future<RecordMetadata>> futures = new ArrayList<>(BURST_SIZE);
+        for (ProducerRecord<String, PaymentRequestAvroModel> record : records) {
+            futures.add(kafkaProducer.send(record));
+        }
+        kafkaProducer.flush();
+        for (Future<RecordMetadata> future : futures) {
+            future.get();
+        }
+    }
+
+    private static KafkaProducerConfigData producerConfigData() {
+        KafkaProducerConfigData kafkaProducerConfigData = new KafkaProducerConfigData();
+        kafkaProducerConfigData.setKeySerializerClass("org.apache.kafka.common.serialization.StringSerializer");
+        kafkaProducerConfigData.setValueSerializerClass(CachedSchemaAvroSerializer.class.getName());
+        kafkaProducerConfigData.setCompressionType("snappy");
+        kafkaProducerConfigData.setAcks("all");
+        kafkaProducerConfigData.setBatchSize(16384);
+        kafkaProducerConfigData.setBatchSizeBoostFactor(100);
+        kafkaProducerConfigData.setLingerMs(5);
+        kafkaProducerConfigData.setRequestTimeoutMs(60000);
+        kafkaProducerConfigData.setRetryCount(5);
+        kafkaProducerConfigData.setEnableIdempotence(true);
+        kafkaProducerConfigData.setMaxInFlightRequestsPerConnection(5);
+        kafkaProducerConfigData.setBufferMemory(33554432L);
+        kafkaProducerConfigData.setMaxBlockMs(60000L);
+
+        KafkaProducerConfigData.Profile lowLatency = new KafkaProducerConfigData.Profile();
+        lowLatency.setAcks("1");
+        lowLatency.setEnableIdempotence(false);
+        lowLatency.setCompressionType("none");
+        lowLatency.setBatchSizeBoostFactor(1);
+        lowLatency.setLingerMs(0);
+        KafkaProducerConfigData.Profile highThroughput = new KafkaProducerConfigData.Profile();
+        highThroughput.setCompressionType("lz4");
+        highThroughput.setBatchSizeBoostFactor(100);
+        highThroughput.setLingerMs(50);
+        highThroughput.setBufferMemory(134217728L);
+        highThroughput.setMaxBlockMs(120000L);
+        kafkaProducerConfigData.setProfiles(Map.of(
+                "low-latency", lowLatency,
+                "high-throughput", highThroughput));
+        return kafkaProducerConfigData;
+    }
+
+    private static void createTopic(String bootstrapServers)
+            throws InterruptedException {
+        try (Admin admin = Admin.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, ADMIN_TIMEOUT_MS,
+                AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, ADMIN_TIMEOUT_MS))) {
+            admin.describeCluster().nodes().get();
+            admin.createTopics(List.of(new NewTopic(TOPIC, 3, (short) 3))).all().get();
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                throw new IllegalStateException("Kafka cluster at " + bootstrapServers + " is not reachable, " +
+                        "start infrastructure/docker-compose first", e);
+            }
+        }
+    }
+}
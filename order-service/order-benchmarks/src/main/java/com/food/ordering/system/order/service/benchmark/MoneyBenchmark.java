@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1", "20", "500"})
+    private int itemCount;
+
+    private List<Money> amounts;
+    private int[] quantities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new ArrayList<>(itemCount);
+        quantities = new int[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            amounts.add(new Money(BigDecimal.valueOf(100 + random.nextInt(5000), 2)));
+            quantities[i] = 1 + random.nextInt(3);
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return amounts.stream().reduce(Money.ZERO, Money::add);
+    }
+
+    @Benchmark
+    public Money multiplyAndAdd() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            total = total.add(amounts.get(i).multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money subtract() {
+        Money remaining = new Money(new BigDecimal("1000000.00"));
+        for (Money amount : amounts) {
+            remaining = remaining.subtract(amount);
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+final class OrderBenchmarkData {
+
+    private OrderBenchmarkData() {
+    }
+
+    static Restaurant restaurant(int menuSize) {
+        Random random = new Random(42);
+        List<Product> menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(5000), 2);
+            menu.add(new Product(new ProductId(UUID.randomUUID()), "Product-" + i, new Money(price)));
+        }
+        return Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(menu)
+                .active(true)
+                .build();
+    }
+
+    static CreateOrderCommand createOrderCommand(Restaurant restaurant, int itemCount) {
+        Random random = new Random(7);
+        List<Product> menu = restaurant.getProducts();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Product product = menu.get(random.nextInt(menu.size()));
+            int quantity = 1 + random.nextInt(3);
+            BigDecimal price = product.getPrice().getAmount();
+            BigDecimal subTotal = price.multiply(BigDecimal.valueOf(quantity));
+            items.add(OrderItem.builder()
+                    .productId(product.getId().getValue())
+                    .quantity(quantity)
+                    .price(price)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(restaurant.getId().getValue())
+                .price(total)
+                .items(items)
+                .address(OrderAddress.builder()
+                        .street("Street_1")
+                        .postalCode("12345")
+                        .city("City_1")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation hot path, from the incoming command to an initialized order aggregate.
+ * validateAndInitializeOrder needs a fresh aggregate per call, so it includes the mapping
+ * measured on its own by createOrderCommandToOrder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreationBenchmark {
+
+    @Param({"1", "20", "500"})
+    private int itemCount;
+
+    @Param({"50", "5000"})
+    private int menuSize;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private Restaurant restaurant;
+    private CreateOrderCommand createOrderCommand;
+    private Order confirmedOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurant = OrderBenchmarkData.restaurant(menuSize);
+        createOrderCommand = OrderBenchmarkData.createOrderCommand(restaurant, itemCount);
+        confirmedOrder = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        confirmedOrder.getItems().forEach(orderItem -> {
+            Product product = orderItem.getProduct();
+            restaurant.findProduct(product.getId()).ifPresent(restaurantProduct ->
+                    product.updateWithConfirmedNameAndPrice(restaurantProduct.getName(),
+                            restaurantProduct.getPrice()));
+        });
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitializeOrder() {
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        return orderDomainService.validateAndInitializeOrder(order, restaurant);
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        confirmedOrder.validateOrder();
+        return confirmedOrder;
+    }
+}
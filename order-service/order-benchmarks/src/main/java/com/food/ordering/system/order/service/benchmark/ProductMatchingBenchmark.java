@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former nested scan of order items against the restaurant menu with the
+ * {@link Restaurant#findProduct(ProductId)} index used by OrderDomainServiceImpl.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMatchingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int menuSize;
+
+    @Param({"5", "200"})
+    private int itemCount;
+
+    private Restaurant restaurant;
+    private List<Product> orderProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Product> menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(new Product(new ProductId(UUID.randomUUID()), "Product-" + i,
+                    new Money(new BigDecimal("10.00"))));
+        }
+        restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(menu)
+                .active(true)
+                .build();
+        orderProducts = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            orderProducts.add(new Product(menu.get(random.nextInt(menuSize)).getId()));
+        }
+    }
+
+    @Benchmark
+    public void nestedScan(Blackhole blackhole) {
+        for (Product orderProduct : orderProducts) {
+            for (Product restaurantProduct : restaurant.getProducts()) {
+                if (orderProduct.equals(restaurantProduct)) {
+                    blackhole.consume(restaurantProduct.getPrice());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        for (Product orderProduct : orderProducts) {
+            restaurant.findProduct(orderProduct.getId())
+                    .ifPresent(restaurantProduct -> blackhole.consume(restaurantProduct.getPrice()));
+        }
+    }
+
+    @Benchmark
+    public Restaurant buildRestaurantIndex() {
+        return Restaurant.builder()
+                .restaurantId(restaurant.getId())
+                .products(restaurant.getProducts())
+                .active(true)
+                .build();
+    }
+}
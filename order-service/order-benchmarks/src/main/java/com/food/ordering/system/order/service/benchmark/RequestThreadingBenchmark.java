@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * A burst of concurrent createOrder requests served by a Tomcat-sized platform thread pool versus
+ * one virtual thread per request. Each request blocks on the customer lookup, restaurant lookup,
+ * save and publish (simulated with sleeps of ioLatencyMicros) around the in-memory order creation.
+ * SampleTime percentiles are per burst, so the tail follows the slowest request of each burst.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"200", "2000", "10000"})
+    private int concurrentRequests;
+
+    @Param({"1000"})
+    private int ioLatencyMicros;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private ExecutorService executorService;
+    private Duration ioLatency;
+    private Restaurant restaurant;
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorService = "virtual".equals(threading)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        ioLatency = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(ioLatencyMicros));
+        restaurant = OrderBenchmarkData.restaurant(50);
+        createOrderCommand = OrderBenchmarkData.createOrderCommand(restaurant, 5);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public int createOrders() throws InterruptedException, ExecutionException {
+        List<Callable<OrderCreatedEvent>> requests = Collections.nCopies(concurrentRequests, this::createOrder);
+        int created = 0;
+        for (Future<OrderCreatedEvent> response : executorService.invokeAll(requests)) {
+            response.get();
+            created++;
+        }
+        return created;
+    }
+
+    private OrderCreatedEvent createOrder() throws InterruptedException {
+        Thread.sleep(ioLatency);
+        Thread.sleep(ioLatency);
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitializeOrder(order, restaurant);
+        Thread.sleep(ioLatency);
+        Thread.sleep(ioLatency);
+        return orderCreatedEvent;
+    }
+}
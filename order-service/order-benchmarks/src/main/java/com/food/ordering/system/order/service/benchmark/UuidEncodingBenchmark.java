@@ -0,0 +1,154 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.converter.UuidFixedSpecificData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payment request encoding and payment response decoding with ids as uuid strings (the v1 schemas) versus the
+ * 16 byte Uuid fixed. Both sides start from and end at java.util.UUID, so the string variant pays for
+ * UUID.toString/fromString and the fixed variant for UuidConverter. Encoded sizes are printed on setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidEncodingBenchmark {
+
+    @Param({"string", "fixed"})
+    private String uuidEncoding;
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    private Schema legacyPaymentRequestSchema;
+    private DatumWriter<IndexedRecord> paymentRequestWriter;
+    private DatumReader<IndexedRecord> paymentResponseReader;
+
+    private UUID[] ids;
+    private BigDecimal price;
+    private Instant createdAt;
+    private byte[] paymentResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ids = new UUID[]{UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID()};
+        price = new BigDecimal("125.00");
+        createdAt = Instant.now();
+        if ("string".equals(uuidEncoding)) {
+            GenericData legacyData = new GenericData();
+            legacyData.addLogicalTypeConversion(new Conversions.UUIDConversion());
+            legacyData.addLogicalTypeConversion(new Conversions.DecimalConversion());
+            legacyData.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+            legacyPaymentRequestSchema = parse("avro/legacy/payment_request_v1.avsc");
+            Schema legacyPaymentResponseSchema = parse("avro/legacy/payment_response_v1.avsc");
+            paymentRequestWriter = new GenericDatumWriter<>(legacyPaymentRequestSchema, legacyData);
+            paymentResponseReader = new GenericDatumReader<>(legacyPaymentResponseSchema,
+                    legacyPaymentResponseSchema, legacyData);
+            GenericRecord legacyPaymentResponse = new GenericData.Record(legacyPaymentResponseSchema);
+            legacyPaymentResponse.put("id", ids[0]);
+            legacyPaymentResponse.put("sagaId", ids[1]);
+            legacyPaymentResponse.put("paymentId", ids[2]);
+            legacyPaymentResponse.put("customerId", ids[3]);
+            legacyPaymentResponse.put("orderId", ids[4]);
+            legacyPaymentResponse.put("price", price);
+            legacyPaymentResponse.put("createdAt", createdAt);
+            legacyPaymentResponse.put("paymentStatus", new GenericData.EnumSymbol(
+                    legacyPaymentResponseSchema.getField("paymentStatus").schema(), "COMPLETED"));
+            legacyPaymentResponse.put("failureMessages", List.of());
+            paymentResponse = encode(new GenericDatumWriter<>(legacyPaymentResponseSchema, legacyData),
+                    legacyPaymentResponse);
+        } else {
+            paymentRequestWriter = new SpecificDatumWriter<>(PaymentRequestAvroModel.getClassSchema());
+            paymentResponseReader = new SpecificDatumReader<>(PaymentResponseAvroModel.getClassSchema(),
+                    PaymentResponseAvroModel.getClassSchema(),
+                    UuidFixedSpecificData.forClass(PaymentResponseAvroModel.class));
+            paymentResponse = encode(new SpecificDatumWriter<>(PaymentResponseAvroModel.getClassSchema()),
+                    new PaymentResponseAvroModel(UuidConverter.toAvro(ids[0]), UuidConverter.toAvro(ids[1]),
+                            UuidConverter.toAvro(ids[2]), UuidConverter.toAvro(ids[3]),
+                            UuidConverter.toAvro(ids[4]), price, createdAt, PaymentStatus.COMPLETED, List.of()));
+        }
+        System.out.printf("%s uuids: payment request %d bytes, payment response %d bytes%n", uuidEncoding,
+                encodePaymentRequest().length, paymentResponse.length);
+    }
+
+    @Benchmark
+    public byte[] encodePaymentRequest() throws IOException {
+        if ("string".equals(uuidEncoding)) {
+            GenericRecord paymentRequest = new GenericData.Record(legacyPaymentRequestSchema);
+            paymentRequest.put("id", ids[0]);
+            paymentRequest.put("sagaId", ids[1]);
+            paymentRequest.put("customerId", ids[2]);
+            paymentRequest.put("orderId", ids[3]);
+            paymentRequest.put("price", price);
+            paymentRequest.put("createdAt", createdAt);
+            paymentRequest.put("paymentOrderStatus", new GenericData.EnumSymbol(
+                    legacyPaymentRequestSchema.getField("paymentOrderStatus").schema(), "PENDING"));
+            return encode(paymentRequestWriter, paymentRequest);
+        }
+        return encode(paymentRequestWriter, new PaymentRequestAvroModel(UuidConverter.toAvro(ids[0]),
+                UuidConverter.toAvro(ids[1]), UuidConverter.toAvro(ids[2]), UuidConverter.toAvro(ids[3]), price,
+                createdAt, PaymentOrderStatus.PENDING));
+    }
+
+    @Benchmark
+    public void decodePaymentResponse(Blackhole blackhole) throws IOException {
+        decoder = DecoderFactory.get().binaryDecoder(paymentResponse, decoder);
+        IndexedRecord record = paymentResponseReader.read(null, decoder);
+        for (int i = 0; i < ids.length; i++) {
+            Object id = record.get(i);
+            blackhole.consume("string".equals(uuidEncoding) ? id :
+                    UuidConverter.fromAvro((Uuid) id));
+        }
+        blackhole.consume(record);
+    }
+
+    private byte[] encode(DatumWriter<IndexedRecord> datumWriter, IndexedRecord record) throws IOException {
+        outputStream.reset();
+        encoder = EncoderFactory.get().binaryEncoder(outputStream, encoder);
+        datumWriter.write(record, encoder);
+        encoder.flush();
+        return outputStream.toByteArray();
+    }
+
+    private static Schema parse(String location) throws IOException {
+        try (InputStream inputStream = UuidEncodingBenchmark.class.getClassLoader().getResourceAsStream(location)) {
+            return new Schema.Parser().parse(inputStream);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantCache;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts restaurants from the restaurant cache after the order_restaurant_m_view is changed outside this
+ * service: DELETE /actuator/restaurantcache/{restaurantId} for one restaurant, DELETE /actuator/restaurantcache
+ * for all of them.
+ */
+@Component
+@Endpoint(id = "restaurantcache")
+public class RestaurantCacheEndpoint {
+
+    private final RestaurantCache restaurantCache;
+
+    public RestaurantCacheEndpoint(RestaurantCache restaurantCache) {
+        this.restaurantCache = restaurantCache;
+    }
+
+    @DeleteOperation
+    public void invalidateRestaurant(@Selector UUID restaurantId) {
+        restaurantCache.invalidate(new RestaurantId(restaurantId));
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        restaurantCache.invalidateAll();
+    }
+}
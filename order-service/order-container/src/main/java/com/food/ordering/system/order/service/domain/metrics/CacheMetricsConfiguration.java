@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantCache;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheMetricsConfiguration {
+
+    @Bean
+    public MeterBinder restaurantCacheMetrics(RestaurantCache restaurantCache) {
+        return new CaffeineCacheMetrics<>(restaurantCache.getNativeCache(), "restaurants", Tags.empty());
+    }
+
+    @Bean
+    public MeterBinder orderTrackingCacheMetrics(OrderTrackingCache orderTrackingCache) {
+        return new CaffeineCacheMetrics<>(orderTrackingCache.getNativeCache(), "order-tracking", Tags.empty());
+    }
+}
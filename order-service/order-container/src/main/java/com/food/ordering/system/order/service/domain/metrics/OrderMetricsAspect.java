@@ -0,0 +1,121 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class OrderMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer orderLookupTimer;
+
+    private final Timer persistOrderTimer;
+
+    private final Timer validateAndInitializeOrderTimer;
+
+    private final Map<String, Timer> repositoryTimers = new ConcurrentHashMap<>();
+
+    private final Map<OrderStatus, Counter> transitionCounters = new EnumMap<>(OrderStatus.class);
+
+    public OrderMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.orderLookupTimer = Timer.builder("order.create.lookup")
+                .description("Time to look up the customer and restaurant of a new order")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.persistOrderTimer = Timer.builder("order.create.persist")
+                .description("Time to validate and persist a new order")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.validateAndInitializeOrderTimer = Timer.builder("order.domain.validate-and-initialize")
+                .description("Time spent in OrderDomainService.validateAndInitializeOrder")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            transitionCounters.put(orderStatus, Counter.builder("order.status.transitions")
+                    .description("Orders moved into a status by a committed payment, approval or cancellation step")
+                    .tag("status", orderStatus.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(* com.food.ordering.system.order.service.domain.OrderCreateHelper" +
+            ".checkCustomerAndRestaurant(..))")
+    public Object timeOrderLookup(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(orderLookupTimer, joinPoint);
+    }
+
+    @Around("execution(* com.food.ordering.system.order.service.domain.OrderCreateHelper.persistOrder(..))")
+    public Object timePersistOrder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(persistOrderTimer, joinPoint);
+    }
+
+    @Around("execution(* com.food.ordering.system.order.service.domain.OrderDomainService" +
+            ".validateAndInitializeOrder(..))")
+    public Object timeValidateAndInitializeOrder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(validateAndInitializeOrderTimer, joinPoint);
+    }
+
+    @Around("execution(* com.food.ordering.system.order.service.domain.port.output.repository.*.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer timer = repositoryTimers.computeIfAbsent(repository + "." + method, key ->
+                Timer.builder("order.repository.calls")
+                        .description("Time spent in repository port calls")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+        return time(timer, joinPoint);
+    }
+
+    @AfterReturning("(execution(* com.food.ordering.system.order.service.domain.OrderDomainService.payOrder(..)) " +
+            "|| execution(* com.food.ordering.system.order.service.domain.OrderDomainService.approveOrder(..)) " +
+            "|| execution(* com.food.ordering.system.order.service.domain.OrderDomainService.cancelOrderPayment(..)) " +
+            "|| execution(* com.food.ordering.system.order.service.domain.OrderDomainService.cancelOrder(..))) " +
+            "&& args(order, ..)")
+    public void countTransition(Order order) {
+        OrderStatus orderStatus = order.getOrderStatus();
+        if (orderStatus == null) {
+            return;
+        }
+        Counter counter = transitionCounters.get(orderStatus);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.increment();
+                }
+            });
+        } else {
+            counter.increment();
+        }
+    }
+
+    private Object time(Timer timer, ProceedingJoinPoint joinPoint) throws Throwable {
+        long startNanos = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.order.service.domain.tracking.OrderStatusSubscriptionRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderStatusPushMetricsConfiguration {
+
+    @Bean
+    public MeterBinder orderStatusPushMetrics(OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry) {
+        return registry -> FunctionCounter.builder("order.status.push.dropped", orderStatusSubscriptionRegistry,
+                        OrderStatusSubscriptionRegistry::getDroppedPushCount)
+                .description("Order status pushes dropped because the push queue was full")
+                .register(registry);
+    }
+}
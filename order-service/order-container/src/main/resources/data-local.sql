@@ -0,0 +1,10 @@
+MERGE INTO order_customer_m_view (id) KEY (id)
+VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb41');
+
+MERGE INTO order_restaurant_m_view
+    (restaurant_id, product_id, restaurant_name, restaurant_active, product_name, product_price)
+    KEY (restaurant_id, product_id)
+VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb45', 'd215b5f8-0249-4dc5-89a3-51fd148cfb48',
+        'restaurant_1', TRUE, 'product_1', 25.00),
+       ('d215b5f8-0249-4dc5-89a3-51fd148cfb45', 'd215b5f8-0249-4dc5-89a3-51fd148cfb47',
+        'restaurant_1', TRUE, 'product_2', 50.00);
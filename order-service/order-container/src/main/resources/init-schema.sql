@@ -0,0 +1,107 @@
+CREATE TABLE IF NOT EXISTS orders
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    restaurant_id uuid NOT NULL,
+    tracking_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    order_status character varying(16) NOT NULL,
+    failure_messages character varying,
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS orders_tracking_id_idx ON orders (tracking_id);
+
+CREATE TABLE IF NOT EXISTS order_tracking
+(
+    tracking_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    order_status character varying(16) NOT NULL,
+    failure_messages character varying,
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items
+(
+    id bigint NOT NULL,
+    order_id uuid NOT NULL,
+    product_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    quantity integer NOT NULL,
+    sub_total numeric(10,2) NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id),
+    CONSTRAINT order_items_order_id_fkey FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_address
+(
+    id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    street character varying NOT NULL,
+    postal_code character varying NOT NULL,
+    city character varying NOT NULL,
+    CONSTRAINT order_address_pkey PRIMARY KEY (id),
+    CONSTRAINT order_address_order_id_key UNIQUE (order_id),
+    CONSTRAINT order_address_order_id_fkey FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_customer_m_view
+(
+    id uuid NOT NULL,
+    CONSTRAINT order_customer_m_view_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_restaurant_m_view
+(
+    restaurant_id uuid NOT NULL,
+    product_id uuid NOT NULL,
+    restaurant_name character varying NOT NULL,
+    restaurant_active boolean NOT NULL,
+    product_name character varying NOT NULL,
+    product_price numeric(10,2) NOT NULL,
+    CONSTRAINT order_restaurant_m_view_pkey PRIMARY KEY (restaurant_id, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS payment_outbox
+(
+    id uuid NOT NULL,
+    saga_id uuid NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    payload character varying NOT NULL,
+    order_status character varying(16) NOT NULL,
+    outbox_status character varying(16) NOT NULL,
+    attempt_count integer NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    version integer NOT NULL,
+    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS payment_outbox_status_created_at_idx ON payment_outbox (outbox_status, created_at);
+
+CREATE TABLE IF NOT EXISTS restaurant_approval_outbox
+(
+    id uuid NOT NULL,
+    saga_id uuid NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    payload character varying NOT NULL,
+    order_status character varying(16) NOT NULL,
+    outbox_status character varying(16) NOT NULL,
+    attempt_count integer NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    version integer NOT NULL,
+    CONSTRAINT restaurant_approval_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS restaurant_approval_outbox_status_created_at_idx
+    ON restaurant_approval_outbox (outbox_status, created_at);
+
+CREATE TABLE IF NOT EXISTS processed_messages
+(
+    id uuid NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS processed_messages_processed_at_idx ON processed_messages (processed_at);
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.port.output.repository.CustomerRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class CustomerRepositoryImpl implements CustomerRepository {
+
+    private final CustomerJpaRepository customerJpaRepository;
+    private final CustomerDataAccessMapper customerDataAccessMapper;
+
+    public CustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository,
+                                  CustomerDataAccessMapper customerDataAccessMapper) {
+        this.customerJpaRepository = customerJpaRepository;
+        this.customerDataAccessMapper = customerDataAccessMapper;
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+        return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
+    }
+
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        return customerJpaRepository.findAllById(customerIds).stream()
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        return customerDataAccessMapper.customerEntityToCustomer(
+                customerJpaRepository.save(customerDataAccessMapper.customerToCustomerEntity(customer)));
+    }
+}
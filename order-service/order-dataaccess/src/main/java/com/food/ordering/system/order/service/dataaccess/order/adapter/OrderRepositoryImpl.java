@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderTrackingJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderRepositoryImpl implements OrderRepository {
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository,
+                               OrderTrackingJpaRepository orderTrackingJpaRepository,
+                               OrderDataAccessMapper orderDataAccessMapper) {
+        this.orderJpaRepository = orderJpaRepository;
+        this.orderTrackingJpaRepository = orderTrackingJpaRepository;
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (updateExistingOrder(order)) {
+            updateOrderTracking(List.of(order));
+            return order;
+        }
+        orderTrackingJpaRepository.save(orderDataAccessMapper.orderToOrderTrackingEntity(order));
+        return orderDataAccessMapper.orderEntityToOrder(
+                orderJpaRepository.save(orderDataAccessMapper.orderToOrderEntity(order)));
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<OrderEntity> newOrderEntities = new ArrayList<>();
+        List<OrderTrackingEntity> newOrderTrackingEntities = new ArrayList<>();
+        List<Order> updatedOrders = new ArrayList<>();
+        orders.forEach(order -> {
+            if (updateExistingOrder(order)) {
+                updatedOrders.add(order);
+            } else {
+                newOrderEntities.add(orderDataAccessMapper.orderToOrderEntity(order));
+                newOrderTrackingEntities.add(orderDataAccessMapper.orderToOrderTrackingEntity(order));
+            }
+        });
+        orderJpaRepository.saveAll(newOrderEntities);
+        orderTrackingJpaRepository.saveAll(newOrderTrackingEntities);
+        updateOrderTracking(updatedOrders);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        return orderJpaRepository.findByTrackingId(trackingId.getValue())
+                .map(orderDataAccessMapper::orderEntityToOrder);
+    }
+
+    @Override
+    public List<Order> findByIds(Collection<UUID> orderIds) {
+        return orderJpaRepository.findByIdIn(orderIds).stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .collect(Collectors.toList());
+    }
+
+    private boolean updateExistingOrder(Order order) {
+        // Orders are only saved as PENDING right after initialization, so they can be inserted
+        // without the merge lookup. Later transitions update the managed entity in place, which
+        // is served from the persistence context when the order was loaded in the same transaction.
+        if (order.getOrderStatus() == OrderStatus.PENDING) {
+            return false;
+        }
+        Optional<OrderEntity> orderEntity = orderJpaRepository.findById(order.getId().getValue());
+        orderEntity.ifPresent(entity -> orderDataAccessMapper.updateOrderEntity(entity, order));
+        return orderEntity.isPresent();
+    }
+
+    private void updateOrderTracking(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<UUID, Order> ordersByTrackingId = orders.stream()
+                .collect(Collectors.toMap(order -> order.getTrackingId().getValue(), Function.identity(),
+                        (previous, latest) -> latest));
+        List<OrderTrackingEntity> orderTrackingEntities =
+                orderTrackingJpaRepository.findAllById(ordersByTrackingId.keySet());
+        orderTrackingEntities.forEach(orderTrackingEntity -> orderDataAccessMapper.updateOrderTrackingEntity(
+                orderTrackingEntity, ordersByTrackingId.remove(orderTrackingEntity.getTrackingId())));
+        if (!ordersByTrackingId.isEmpty()) {
+            orderTrackingJpaRepository.saveAll(ordersByTrackingId.values().stream()
+                    .map(orderDataAccessMapper::orderToOrderTrackingEntity)
+                    .collect(Collectors.toList()));
+        }
+    }
+}
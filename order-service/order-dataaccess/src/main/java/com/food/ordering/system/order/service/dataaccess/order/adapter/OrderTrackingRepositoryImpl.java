@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderTrackingJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+    private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderTrackingRepositoryImpl(OrderTrackingJpaRepository orderTrackingJpaRepository,
+                                       OrderDataAccessMapper orderDataAccessMapper) {
+        this.orderTrackingJpaRepository = orderTrackingJpaRepository;
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId) {
+        return orderTrackingJpaRepository.findById(trackingId.getValue())
+                .map(orderDataAccessMapper::orderTrackingEntityToTrackOrderResponse);
+    }
+}
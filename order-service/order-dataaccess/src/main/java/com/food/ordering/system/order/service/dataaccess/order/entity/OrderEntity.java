@@ -1,4 +1,74 @@
 package com.food.ordering.system.order.service.dataaccess.order.entity;
 
-public class OrderEntity {
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "orders",
+        indexes = @Index(name = "orders_tracking_id_idx", columnList = "tracking_id", unique = true))
+@NamedEntityGraph(name = OrderEntity.WITH_ITEMS_AND_ADDRESS,
+        attributeNodes = {@NamedAttributeNode("address"), @NamedAttributeNode("items")})
+public class OrderEntity implements Persistable<UUID> {
+
+    public static final String WITH_ITEMS_AND_ADDRESS = "OrderEntity.withItemsAndAddress";
+
+    @Id
+    private UUID id;
+    private UUID customerId;
+    private UUID restaurantId;
+    @Column(name = "tracking_id", nullable = false)
+    private UUID trackingId;
+    private BigDecimal price;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String failureMessages;
+
+    @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
+    private OrderAddressEntity address;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+    private List<OrderItemEntity> items;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderEntity that = (OrderEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
 }
@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.order.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_tracking")
+public class OrderTrackingEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "tracking_id")
+    private UUID trackingId;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String failureMessages;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public UUID getId() {
+        return trackingId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderTrackingEntity that = (OrderTrackingEntity) o;
+        return trackingId.equals(that.trackingId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackingId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
+
+    @EntityGraph(OrderEntity.WITH_ITEMS_AND_ADDRESS)
+    Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+    @EntityGraph(OrderEntity.WITH_ITEMS_AND_ADDRESS)
+    List<OrderEntity> findByIdIn(Collection<UUID> ids);
+}
@@ -0,0 +1,80 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.repository.ApprovalOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.repository.ApprovalOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+
+    private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+    public ApprovalOutboxRepositoryImpl(ApprovalOutboxJpaRepository approvalOutboxJpaRepository,
+                                       ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper) {
+        this.approvalOutboxJpaRepository = approvalOutboxJpaRepository;
+        this.approvalOutboxDataAccessMapper = approvalOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return approvalOutboxDataAccessMapper.approvalOutboxEntityToOrderApprovalOutboxMessage(
+                approvalOutboxJpaRepository.save(
+                        approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToOutboxEntity(orderApprovalOutboxMessage)));
+    }
+
+    @Override
+    public void saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        approvalOutboxJpaRepository.saveAll(orderApprovalOutboxMessages.stream()
+                .map(approvalOutboxDataAccessMapper::orderApprovalOutboxMessageToOutboxEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> findAndLockByOutboxStatus(int limit,
+                                                                      int maxAttempts,
+                                                                      ZonedDateTime dueAt,
+                                                                      OutboxStatus... outboxStatus) {
+        return approvalOutboxJpaRepository.findAndLockByOutboxStatus(Arrays.asList(outboxStatus), maxAttempts,
+                        dueAt, PageRequest.ofSize(limit))
+                .stream()
+                .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void updateOutboxStatus(List<UUID> outboxMessageIds, OutboxStatus outboxStatus,
+                                   ZonedDateTime processedAt) {
+        approvalOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, outboxStatus, processedAt);
+    }
+
+    @Override
+    public void updateOutboxStatus(List<UUID> outboxMessageIds,
+                                   OutboxStatus outboxStatus,
+                                   int attemptCount,
+                                   ZonedDateTime nextAttemptAt,
+                                   ZonedDateTime processedAt) {
+        approvalOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, outboxStatus, attemptCount, nextAttemptAt,
+                processedAt);
+    }
+
+    @Override
+    public void updateNextAttemptAt(List<UUID> outboxMessageIds, ZonedDateTime nextAttemptAt) {
+        approvalOutboxJpaRepository.updateNextAttemptAt(outboxMessageIds, nextAttemptAt);
+    }
+
+    @Override
+    public void deleteByOutboxStatus(OutboxStatus outboxStatus) {
+        approvalOutboxJpaRepository.deleteByOutboxStatus(outboxStatus);
+    }
+}
@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "restaurant_approval_outbox",
+        indexes = @Index(name = "restaurant_approval_outbox_status_created_at_idx", columnList = "outbox_status, created_at"))
+public class ApprovalOutboxEntity {
+
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    @Column(name = "created_at")
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private String payload;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_status")
+    private OutboxStatus outboxStatus;
+    private int attemptCount;
+    private ZonedDateTime nextAttemptAt;
+    @Version
+    private Integer version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApprovalOutboxEntity that = (ApprovalOutboxEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApprovalOutboxDataAccessMapper {
+
+    public ApprovalOutboxEntity orderApprovalOutboxMessageToOutboxEntity(
+            OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return ApprovalOutboxEntity.builder()
+                .id(orderApprovalOutboxMessage.getId())
+                .sagaId(orderApprovalOutboxMessage.getSagaId())
+                .createdAt(orderApprovalOutboxMessage.getCreatedAt())
+                .processedAt(orderApprovalOutboxMessage.getProcessedAt())
+                .payload(orderApprovalOutboxMessage.getPayload())
+                .orderStatus(orderApprovalOutboxMessage.getOrderStatus())
+                .outboxStatus(orderApprovalOutboxMessage.getOutboxStatus())
+                .attemptCount(orderApprovalOutboxMessage.getAttemptCount())
+                .nextAttemptAt(orderApprovalOutboxMessage.getNextAttemptAt())
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage approvalOutboxEntityToOrderApprovalOutboxMessage(
+            ApprovalOutboxEntity approvalOutboxEntity) {
+        return OrderApprovalOutboxMessage.builder()
+                .id(approvalOutboxEntity.getId())
+                .sagaId(approvalOutboxEntity.getSagaId())
+                .createdAt(approvalOutboxEntity.getCreatedAt())
+                .processedAt(approvalOutboxEntity.getProcessedAt())
+                .payload(approvalOutboxEntity.getPayload())
+                .orderStatus(approvalOutboxEntity.getOrderStatus())
+                .outboxStatus(approvalOutboxEntity.getOutboxStatus())
+                .attemptCount(approvalOutboxEntity.getAttemptCount())
+                .nextAttemptAt(approvalOutboxEntity.getNextAttemptAt())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ApprovalOutboxJpaRepository extends JpaRepository<ApprovalOutboxEntity, UUID> {
+
+    // Hibernate renders a lock timeout of -2 as SKIP LOCKED
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select p from ApprovalOutboxEntity p where p.outboxStatus in :outboxStatus " +
+            "and p.attemptCount < :maxAttempts and p.nextAttemptAt <= :dueAt order by p.createdAt")
+    List<ApprovalOutboxEntity> findAndLockByOutboxStatus(@Param("outboxStatus") Collection<OutboxStatus> outboxStatus,
+                                                           @Param("maxAttempts") int maxAttempts,
+                                                           @Param("dueAt") ZonedDateTime dueAt,
+                                                           Pageable pageable);
+
+    @Modifying
+    @Query("update ApprovalOutboxEntity p set p.nextAttemptAt = :nextAttemptAt, p.version = p.version + 1 " +
+            "where p.id in :ids")
+    int updateNextAttemptAt(@Param("ids") Collection<UUID> ids,
+                            @Param("nextAttemptAt") ZonedDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("update ApprovalOutboxEntity p set p.outboxStatus = :outboxStatus, p.processedAt = :processedAt, " +
+            "p.version = p.version + 1 where p.id in :ids")
+    int updateOutboxStatus(@Param("ids") Collection<UUID> ids,
+                           @Param("outboxStatus") OutboxStatus outboxStatus,
+                           @Param("processedAt") ZonedDateTime processedAt);
+
+    @Modifying
+    @Query("update ApprovalOutboxEntity p set p.outboxStatus = :outboxStatus, p.attemptCount = :attemptCount, " +
+            "p.nextAttemptAt = :nextAttemptAt, p.processedAt = :processedAt, p.version = p.version + 1 " +
+            "where p.id in :ids")
+    int updateOutboxStatus(@Param("ids") Collection<UUID> ids,
+                           @Param("outboxStatus") OutboxStatus outboxStatus,
+                           @Param("attemptCount") int attemptCount,
+                           @Param("nextAttemptAt") ZonedDateTime nextAttemptAt,
+                           @Param("processedAt") ZonedDateTime processedAt);
+
+    @Modifying
+    @Query("delete from ApprovalOutboxEntity p where p.outboxStatus = :outboxStatus")
+    int deleteByOutboxStatus(@Param("outboxStatus") OutboxStatus outboxStatus);
+}
@@ -0,0 +1,80 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.repository.PaymentOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    public PaymentOutboxRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository,
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+        this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
+        this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(
+                paymentOutboxJpaRepository.save(
+                        paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+    }
+
+    @Override
+    public void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        paymentOutboxJpaRepository.saveAll(orderPaymentOutboxMessages.stream()
+                .map(paymentOutboxDataAccessMapper::orderPaymentOutboxMessageToOutboxEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> findAndLockByOutboxStatus(int limit,
+                                                                     int maxAttempts,
+                                                                     ZonedDateTime dueAt,
+                                                                     OutboxStatus... outboxStatus) {
+        return paymentOutboxJpaRepository.findAndLockByOutboxStatus(Arrays.asList(outboxStatus), maxAttempts,
+                        dueAt, PageRequest.ofSize(limit))
+                .stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void updateOutboxStatus(List<UUID> outboxMessageIds, OutboxStatus outboxStatus,
+                                   ZonedDateTime processedAt) {
+        paymentOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, outboxStatus, processedAt);
+    }
+
+    @Override
+    public void updateOutboxStatus(List<UUID> outboxMessageIds,
+                                   OutboxStatus outboxStatus,
+                                   int attemptCount,
+                                   ZonedDateTime nextAttemptAt,
+                                   ZonedDateTime processedAt) {
+        paymentOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, outboxStatus, attemptCount, nextAttemptAt,
+                processedAt);
+    }
+
+    @Override
+    public void updateNextAttemptAt(List<UUID> outboxMessageIds, ZonedDateTime nextAttemptAt) {
+        paymentOutboxJpaRepository.updateNextAttemptAt(outboxMessageIds, nextAttemptAt);
+    }
+
+    @Override
+    public void deleteByOutboxStatus(OutboxStatus outboxStatus) {
+        paymentOutboxJpaRepository.deleteByOutboxStatus(outboxStatus);
+    }
+}
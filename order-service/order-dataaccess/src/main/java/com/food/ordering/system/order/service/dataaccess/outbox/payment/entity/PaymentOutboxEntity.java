@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "payment_outbox",
+        indexes = @Index(name = "payment_outbox_status_created_at_idx", columnList = "outbox_status, created_at"))
+public class PaymentOutboxEntity {
+
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    @Column(name = "created_at")
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private String payload;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_status")
+    private OutboxStatus outboxStatus;
+    private int attemptCount;
+    private ZonedDateTime nextAttemptAt;
+    @Version
+    private Integer version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PaymentOutboxEntity that = (PaymentOutboxEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
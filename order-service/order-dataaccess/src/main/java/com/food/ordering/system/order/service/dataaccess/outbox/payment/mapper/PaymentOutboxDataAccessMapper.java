@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity orderPaymentOutboxMessageToOutboxEntity(
+            OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return PaymentOutboxEntity.builder()
+                .id(orderPaymentOutboxMessage.getId())
+                .sagaId(orderPaymentOutboxMessage.getSagaId())
+                .createdAt(orderPaymentOutboxMessage.getCreatedAt())
+                .processedAt(orderPaymentOutboxMessage.getProcessedAt())
+                .payload(orderPaymentOutboxMessage.getPayload())
+                .orderStatus(orderPaymentOutboxMessage.getOrderStatus())
+                .outboxStatus(orderPaymentOutboxMessage.getOutboxStatus())
+                .attemptCount(orderPaymentOutboxMessage.getAttemptCount())
+                .nextAttemptAt(orderPaymentOutboxMessage.getNextAttemptAt())
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(
+            PaymentOutboxEntity paymentOutboxEntity) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(paymentOutboxEntity.getId())
+                .sagaId(paymentOutboxEntity.getSagaId())
+                .createdAt(paymentOutboxEntity.getCreatedAt())
+                .processedAt(paymentOutboxEntity.getProcessedAt())
+                .payload(paymentOutboxEntity.getPayload())
+                .orderStatus(paymentOutboxEntity.getOrderStatus())
+                .outboxStatus(paymentOutboxEntity.getOutboxStatus())
+                .attemptCount(paymentOutboxEntity.getAttemptCount())
+                .nextAttemptAt(paymentOutboxEntity.getNextAttemptAt())
+                .build();
+    }
+}
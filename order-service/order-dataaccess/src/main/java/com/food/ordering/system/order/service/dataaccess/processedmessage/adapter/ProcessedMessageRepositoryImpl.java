@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.processedmessage.entity.ProcessedMessageEntity;
+import com.food.ordering.system.order.service.dataaccess.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.ProcessedMessageRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+
+    public ProcessedMessageRepositoryImpl(ProcessedMessageJpaRepository processedMessageJpaRepository) {
+        this.processedMessageJpaRepository = processedMessageJpaRepository;
+    }
+
+    @Override
+    public Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds) {
+        return new HashSet<>(processedMessageJpaRepository.findIdsByIdIn(messageIds));
+    }
+
+    @Override
+    public void saveAll(Collection<UUID> messageIds, ZonedDateTime processedAt) {
+        processedMessageJpaRepository.saveAll(messageIds.stream()
+                .map(messageId -> ProcessedMessageEntity.builder()
+                        .id(messageId)
+                        .processedAt(processedAt)
+                        .newEntity(true)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteProcessedBefore(ZonedDateTime processedAt) {
+        processedMessageJpaRepository.deleteByProcessedAtBefore(processedAt);
+    }
+}
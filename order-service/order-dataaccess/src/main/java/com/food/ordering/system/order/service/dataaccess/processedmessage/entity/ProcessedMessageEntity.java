@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "processed_messages",
+        indexes = @Index(name = "processed_messages_processed_at_idx", columnList = "processed_at"))
+public class ProcessedMessageEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+    @Column(name = "processed_at")
+    private ZonedDateTime processedAt;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProcessedMessageEntity that = (ProcessedMessageEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
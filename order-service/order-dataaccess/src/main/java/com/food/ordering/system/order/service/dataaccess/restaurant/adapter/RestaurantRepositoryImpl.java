@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantCache;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.port.output.repository.RestaurantRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class RestaurantRepositoryImpl implements RestaurantRepository {
+
+    private final RestaurantCache restaurantCache;
+
+    public RestaurantRepositoryImpl(RestaurantCache restaurantCache) {
+        this.restaurantCache = restaurantCache;
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        return restaurantCache.getRestaurant(restaurant.getId());
+    }
+}
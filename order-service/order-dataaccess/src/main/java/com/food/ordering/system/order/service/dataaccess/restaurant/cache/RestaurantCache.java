@@ -0,0 +1,80 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class RestaurantCache {
+
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+    private final LoadingCache<UUID, Restaurant> restaurants;
+
+    public RestaurantCache(RestaurantJpaRepository restaurantJpaRepository,
+                           RestaurantDataAccessMapper restaurantDataAccessMapper,
+                           RestaurantCacheConfigData restaurantCacheConfigData) {
+        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+        this.restaurants = Caffeine.newBuilder()
+                .maximumSize(restaurantCacheConfigData.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(restaurantCacheConfigData.getExpireAfterWriteSeconds()))
+                .refreshAfterWrite(Duration.ofSeconds(restaurantCacheConfigData.getRefreshAfterWriteSeconds()))
+                .removalListener((UUID restaurantId, Restaurant restaurant, RemovalCause cause) ->
+                        log.debug("Restaurant with id: {} removed from cache, cause: {}", restaurantId, cause))
+                .recordStats()
+                .build(this::loadRestaurant);
+    }
+
+    public Optional<Restaurant> getRestaurant(RestaurantId restaurantId) {
+        return Optional.ofNullable(restaurants.get(restaurantId.getValue()));
+    }
+
+    public void invalidate(RestaurantId restaurantId) {
+        log.info("Invalidating cached restaurant with id: {}", restaurantId.getValue());
+        restaurants.invalidate(restaurantId.getValue());
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating all cached restaurants");
+        restaurants.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return restaurants.stats();
+    }
+
+    public long getEstimatedSize() {
+        return restaurants.estimatedSize();
+    }
+
+    public Cache<UUID, Restaurant> getNativeCache() {
+        return restaurants;
+    }
+
+    private Restaurant loadRestaurant(UUID restaurantId) {
+        List<RestaurantEntity> restaurantEntities = restaurantJpaRepository.findByRestaurantId(restaurantId);
+        if (restaurantEntities.isEmpty()) {
+            return null;
+        }
+        log.debug("Loaded restaurant with id: {} and {} products into cache", restaurantId,
+                restaurantEntities.size());
+        return restaurantDataAccessMapper.restaurantEntitiesToRestaurant(restaurantEntities);
+    }
+}
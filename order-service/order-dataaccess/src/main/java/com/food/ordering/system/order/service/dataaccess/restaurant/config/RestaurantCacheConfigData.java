@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "restaurant-cache")
+public class RestaurantCacheConfigData {
+    private Long maximumSize;
+    private Long expireAfterWriteSeconds;
+    private Long refreshAfterWriteSeconds;
+}
@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Immutable
+@IdClass(RestaurantEntityId.class)
+@Entity
+@Table(name = "order_restaurant_m_view")
+public class RestaurantEntity {
+
+    @Id
+    private UUID restaurantId;
+    @Id
+    private UUID productId;
+    private String restaurantName;
+    private Boolean restaurantActive;
+    private String productName;
+    private BigDecimal productPrice;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RestaurantEntity that = (RestaurantEntity) o;
+        return restaurantId.equals(that.restaurantId) && productId.equals(that.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, productId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantEntityId implements Serializable {
+
+    private UUID restaurantId;
+    private UUID productId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RestaurantEntityId that = (RestaurantEntityId) o;
+        return restaurantId.equals(that.restaurantId) && productId.equals(that.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, productId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.mapper;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class RestaurantDataAccessMapper {
+
+    public Restaurant restaurantEntitiesToRestaurant(List<RestaurantEntity> restaurantEntities) {
+        RestaurantEntity restaurantEntity = restaurantEntities.get(0);
+        List<Product> restaurantProducts = restaurantEntities.stream()
+                .map(entity -> new Product(new ProductId(entity.getProductId()), entity.getProductName(),
+                        new Money(entity.getProductPrice())))
+                .collect(Collectors.toList());
+        return Restaurant.builder()
+                .restaurantId(new RestaurantId(restaurantEntity.getRestaurantId()))
+                .products(restaurantProducts)
+                .active(restaurantEntity.getRestaurantActive())
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.*;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({OrderRepositoryImpl.class, OrderTrackingRepositoryImpl.class, OrderDataAccessMapper.class})
+public class OrderRepositoryImplTest {
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private OrderTrackingRepositoryImpl orderTrackingRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testSaveAndFindByTrackingId() {
+        Order order = createOrder();
+        orderRepository.save(order);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Order result = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        assertEquals(order.getId(), result.getId());
+        assertEquals(OrderStatus.PENDING, result.getOrderStatus());
+        assertEquals(order.getDeliveryAddress(), result.getDeliveryAddress());
+        assertEquals(2, result.getItems().size());
+        assertEquals(order.getPrice(), result.getPrice());
+        assertTrue(result.getFailureMessages().isEmpty());
+    }
+
+    @Test
+    public void testSaveUpdatesExistingOrder() {
+        Order order = createOrder();
+        orderRepository.save(order);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Order persisted = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        persisted.cancel(List.of("Payment failed", "Insufficient credit"));
+        orderRepository.save(persisted);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Order result = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        assertEquals(OrderStatus.CANCELLED, result.getOrderStatus());
+        assertEquals(List.of("Payment failed", "Insufficient credit"), result.getFailureMessages());
+    }
+
+    @Test
+    public void testFailureMessagesWithCommasAreKept() {
+        Order order = createOrder();
+        orderRepository.save(order);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Order persisted = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        List<String> failureMessages = List.of("Credit of 1,000.00 exceeded", "Restaurant closed, try later");
+        persisted.cancel(failureMessages);
+        orderRepository.save(persisted);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(failureMessages, orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow()
+                .getFailureMessages());
+        assertEquals(failureMessages, orderTrackingRepository.findByTrackingId(order.getTrackingId()).orElseThrow()
+                .getFailureMessages());
+    }
+
+    @Test
+    public void testFindByIdsAndSaveAll() {
+        Order first = createOrder();
+        Order second = createOrder();
+        orderRepository.saveAll(List.of(first, second));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Order> orders = orderRepository.findByIds(List.of(first.getId().getValue(), second.getId().getValue()));
+        assertEquals(2, orders.size());
+        orders.forEach(Order::pay);
+        orderRepository.saveAll(orders);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(OrderStatus.PAID, orderRepository.findByTrackingId(first.getTrackingId()).orElseThrow()
+                .getOrderStatus());
+        assertEquals(OrderStatus.PAID, orderRepository.findByTrackingId(second.getTrackingId()).orElseThrow()
+                .getOrderStatus());
+    }
+
+    @Test
+    public void testOrderTrackingFollowsTransitions() {
+        Order order = createOrder();
+        orderRepository.save(order);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        TrackingId trackingId = order.getTrackingId();
+        assertEquals(OrderStatus.PENDING,
+                orderTrackingRepository.findByTrackingId(trackingId).orElseThrow().getOrderStatus());
+
+        List<Order> orders = orderRepository.findByIds(List.of(order.getId().getValue()));
+        orders.get(0).cancel(List.of("Payment failed"));
+        orderRepository.saveAll(orders);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        TrackOrderResponse trackOrderResponse = orderTrackingRepository.findByTrackingId(trackingId).orElseThrow();
+        assertEquals(OrderStatus.CANCELLED, trackOrderResponse.getOrderStatus());
+        assertEquals(List.of("Payment failed"), trackOrderResponse.getFailureMessages());
+        assertTrue(orderTrackingRepository.findByTrackingId(new TrackingId(UUID.randomUUID())).isEmpty());
+    }
+
+    private Order createOrder() {
+        Product product = new Product(new ProductId(UUID.randomUUID()), "product",
+                new Money(new BigDecimal("25.00")));
+        Order order = Order.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "Paris"))
+                .price(new Money(new BigDecimal("75.00")))
+                .items(List.of(
+                        OrderItem.builder()
+                                .product(product)
+                                .price(new Money(new BigDecimal("25.00")))
+                                .quantity(1)
+                                .subTotal(new Money(new BigDecimal("25.00")))
+                                .build(),
+                        OrderItem.builder()
+                                .product(product)
+                                .price(new Money(new BigDecimal("25.00")))
+                                .quantity(2)
+                                .subTotal(new Money(new BigDecimal("50.00")))
+                                .build()))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+}
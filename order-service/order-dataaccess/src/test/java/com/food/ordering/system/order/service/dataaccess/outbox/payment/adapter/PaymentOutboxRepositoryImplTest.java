@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({PaymentOutboxRepositoryImpl.class, PaymentOutboxDataAccessMapper.class})
+public class PaymentOutboxRepositoryImplTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private PaymentOutboxRepositoryImpl paymentOutboxRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testLeasedMessagesAreNotClaimedAgain() {
+        ZonedDateTime now = now();
+        OrderPaymentOutboxMessage outboxMessage = createOutboxMessage(now.minusSeconds(1), 0);
+        paymentOutboxRepository.save(outboxMessage);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<OrderPaymentOutboxMessage> claimed = findDue(now);
+        assertEquals(1, claimed.size());
+        paymentOutboxRepository.updateNextAttemptAt(List.of(outboxMessage.getId()), now.plusSeconds(30));
+        testEntityManager.clear();
+
+        assertTrue(findDue(now).isEmpty());
+        assertEquals(1, findDue(now.plusSeconds(31)).size());
+    }
+
+    @Test
+    public void testFailedMessagesStopAtMaxAttempts() {
+        ZonedDateTime now = now();
+        OrderPaymentOutboxMessage outboxMessage = createOutboxMessage(now.minusSeconds(1), 0);
+        paymentOutboxRepository.save(outboxMessage);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        paymentOutboxRepository.updateOutboxStatus(List.of(outboxMessage.getId()), OutboxStatus.FAILED,
+                MAX_ATTEMPTS - 1, now, now);
+        testEntityManager.clear();
+        List<OrderPaymentOutboxMessage> claimed = findDue(now);
+        assertEquals(1, claimed.size());
+        assertEquals(OutboxStatus.FAILED, claimed.get(0).getOutboxStatus());
+        assertEquals(MAX_ATTEMPTS - 1, claimed.get(0).getAttemptCount());
+
+        paymentOutboxRepository.updateOutboxStatus(List.of(outboxMessage.getId()), OutboxStatus.FAILED,
+                MAX_ATTEMPTS, now, now);
+        testEntityManager.clear();
+        assertTrue(findDue(now).isEmpty());
+    }
+
+    private static ZonedDateTime now() {
+        // truncated to the column precision, otherwise storing "due at now" may round it past now
+        return ZonedDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private List<OrderPaymentOutboxMessage> findDue(ZonedDateTime dueAt) {
+        return paymentOutboxRepository.findAndLockByOutboxStatus(10, MAX_ATTEMPTS, dueAt,
+                OutboxStatus.STARTED, OutboxStatus.FAILED);
+    }
+
+    private OrderPaymentOutboxMessage createOutboxMessage(ZonedDateTime nextAttemptAt, int attemptCount) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .createdAt(nextAttemptAt)
+                .payload("{}")
+                .orderStatus(OrderStatus.PENDING)
+                .outboxStatus(OutboxStatus.STARTED)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RestaurantCache.class, RestaurantDataAccessMapper.class, RestaurantCacheConfigData.class})
+@TestPropertySource(properties = {
+        "restaurant-cache.maximum-size=100",
+        "restaurant-cache.expire-after-write-seconds=600",
+        "restaurant-cache.refresh-after-write-seconds=60"})
+public class RestaurantCacheTest {
+
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    @Autowired
+    private RestaurantCache restaurantCache;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testRestaurantIsLoadedOnceUntilInvalidated() {
+        testEntityManager.persistAndFlush(RestaurantEntity.builder()
+                .restaurantId(RESTAURANT_ID)
+                .productId(PRODUCT_ID)
+                .restaurantName("restaurant_1")
+                .restaurantActive(true)
+                .productName("product_1")
+                .productPrice(new BigDecimal("25.00"))
+                .build());
+        RestaurantId restaurantId = new RestaurantId(RESTAURANT_ID);
+
+        Restaurant restaurant = restaurantCache.getRestaurant(restaurantId).orElseThrow();
+        assertTrue(restaurant.isActive());
+        assertTrue(restaurant.findProduct(new ProductId(PRODUCT_ID)).isPresent());
+        assertSame(restaurant, restaurantCache.getRestaurant(restaurantId).orElseThrow());
+        assertEquals(1, restaurantCache.getStats().missCount());
+        assertEquals(1, restaurantCache.getStats().hitCount());
+
+        restaurantCache.invalidate(restaurantId);
+        assertNotSame(restaurant, restaurantCache.getRestaurant(restaurantId).orElseThrow());
+        assertEquals(2, restaurantCache.getStats().missCount());
+    }
+
+    @Test
+    public void testUnknownRestaurantIsNotCached() {
+        RestaurantId restaurantId = new RestaurantId(UUID.randomUUID());
+        long missCount = restaurantCache.getStats().missCount();
+        assertTrue(restaurantCache.getRestaurant(restaurantId).isEmpty());
+        assertTrue(restaurantCache.getRestaurant(restaurantId).isEmpty());
+        assertEquals(missCount + 2, restaurantCache.getStats().missCount());
+    }
+}
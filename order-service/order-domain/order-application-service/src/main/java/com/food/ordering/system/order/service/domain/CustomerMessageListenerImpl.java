@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.customer.CustomerExistenceIndex;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.port.input.message.listener.customer.CustomerMessageListener;
+import com.food.ordering.system.order.service.domain.port.output.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class CustomerMessageListenerImpl implements CustomerMessageListener {
+
+    private final CustomerRepository customerRepository;
+
+    private final CustomerExistenceIndex customerExistenceIndex;
+
+    public CustomerMessageListenerImpl(CustomerRepository customerRepository,
+                                       CustomerExistenceIndex customerExistenceIndex) {
+        this.customerRepository = customerRepository;
+        this.customerExistenceIndex = customerExistenceIndex;
+    }
+
+    @Override
+    public void customerCreated(CustomerModel customerModel) {
+        UUID customerId = UUID.fromString(customerModel.getId());
+        Customer customer = customerRepository.save(new Customer(new CustomerId(customerId)));
+        if (customer == null) {
+            log.error("Customer could not be created in order database with id: {}", customerId);
+            throw new OrderDomainException("Customer could not be created in order database with id " +
+                    customerId);
+        }
+        customerExistenceIndex.add(customerId);
+        log.info("Customer is created in order database with id: {}", customerId);
+    }
+}
@@ -2,13 +2,17 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.port.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderStatusSubscriber;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @Validated
@@ -29,8 +33,25 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrdersResponse createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return orderCreateCommandHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public TrackOrderResponse subscribeToOrderStatus(TrackOrderQuery trackOrderQuery,
+                                                     OrderStatusSubscriber orderStatusSubscriber) {
+        return orderTrackCommandHandler.subscribeToOrderStatus(trackOrderQuery, orderStatusSubscriber);
+    }
+
+    @Override
+    public void unsubscribeFromOrderStatus(TrackOrderQuery trackOrderQuery,
+                                           OrderStatusSubscriber orderStatusSubscriber) {
+        orderTrackCommandHandler.unsubscribeFromOrderStatus(trackOrderQuery, orderStatusSubscriber);
+    }
 }
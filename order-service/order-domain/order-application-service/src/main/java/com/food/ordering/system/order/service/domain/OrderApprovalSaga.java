@@ -0,0 +1,151 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.message.ProcessedMessageCache;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderApprovalSaga {
+
+    private final static String UTC = "UTC";
+
+    private final OrderDomainService orderDomainService;
+
+    private final OrderRepository orderRepository;
+
+    private final ProcessedMessageRepository processedMessageRepository;
+
+    private final ProcessedMessageCache processedMessageCache;
+
+    private final OrderDataMapper orderDataMapper;
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+
+    private final OrderTrackingCache orderTrackingCache;
+
+    public OrderApprovalSaga(OrderDomainService orderDomainService,
+                             OrderRepository orderRepository,
+                             ProcessedMessageRepository processedMessageRepository,
+                             ProcessedMessageCache processedMessageCache,
+                             OrderDataMapper orderDataMapper,
+                             PaymentOutboxHelper paymentOutboxHelper,
+                             OrderTrackingCache orderTrackingCache) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.processedMessageRepository = processedMessageRepository;
+        this.processedMessageCache = processedMessageCache;
+        this.orderDataMapper = orderDataMapper;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderTrackingCache = orderTrackingCache;
+    }
+
+    @Transactional
+    public void process(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        Map<UUID, RestaurantApprovalResponse> responsesById = new LinkedHashMap<>();
+        restaurantApprovalResponses.forEach(restaurantApprovalResponse -> {
+            UUID messageId = UUID.fromString(restaurantApprovalResponse.getId());
+            if (!processedMessageCache.contains(messageId)) {
+                responsesById.putIfAbsent(messageId, restaurantApprovalResponse);
+            }
+        });
+        if (responsesById.isEmpty()) {
+            log.info("All {} restaurant approval responses are already processed",
+                    restaurantApprovalResponses.size());
+            return;
+        }
+
+        Set<UUID> processedMessageIds = processedMessageRepository.findProcessedMessageIds(responsesById.keySet());
+        if (!processedMessageIds.isEmpty()) {
+            processedMessageCache.addAll(processedMessageIds);
+            processedMessageIds.forEach(responsesById::remove);
+            if (responsesById.isEmpty()) {
+                log.info("All {} restaurant approval responses are already processed",
+                        restaurantApprovalResponses.size());
+                return;
+            }
+        }
+
+        Set<UUID> orderIds = responsesById.values().stream()
+                .map(restaurantApprovalResponse -> UUID.fromString(restaurantApprovalResponse.getOrderId()))
+                .collect(Collectors.toSet());
+        Map<UUID, Order> orders = orderRepository.findByIds(orderIds).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        Map<UUID, OrderPaymentEventPayload> paymentEventPayloadsBySagaId = new LinkedHashMap<>();
+        for (RestaurantApprovalResponse restaurantApprovalResponse : responsesById.values()) {
+            UUID orderId = UUID.fromString(restaurantApprovalResponse.getOrderId());
+            Order order = orders.get(orderId);
+            if (order == null) {
+                log.error("Order with id: {} could not be found for restaurant approval response id: {}",
+                        orderId, restaurantApprovalResponse.getId());
+                continue;
+            }
+            try {
+                if (restaurantApprovalResponse.getOrderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+                    orderDomainService.approveOrder(order);
+                } else {
+                    OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(order,
+                            restaurantApprovalResponse.getFailureMessages() == null ? new ArrayList<>() :
+                                    new ArrayList<>(restaurantApprovalResponse.getFailureMessages()));
+                    paymentEventPayloadsBySagaId.put(UUID.fromString(restaurantApprovalResponse.getSagaId()),
+                            orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent));
+                }
+                changedOrders.put(orderId, order);
+            } catch (OrderDomainException e) {
+                log.warn("Restaurant approval response id: {} with status {} is skipped for order id: {}, " +
+                                "order status: {}", restaurantApprovalResponse.getId(),
+                        restaurantApprovalResponse.getOrderApprovalStatus(), orderId, order.getOrderStatus());
+            }
+        }
+
+        if (!changedOrders.isEmpty()) {
+            orderRepository.saveAll(new ArrayList<>(changedOrders.values()));
+            orderTrackingCache.updateAfterCommit(changedOrders.values());
+        }
+        if (!paymentEventPayloadsBySagaId.isEmpty()) {
+            paymentOutboxHelper.savePaymentOutboxMessages(paymentEventPayloadsBySagaId, OrderStatus.CANCELLING);
+        }
+        List<UUID> messageIds = new ArrayList<>(responsesById.keySet());
+        processedMessageRepository.saveAll(messageIds, ZonedDateTime.now(ZoneId.of(UTC)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    processedMessageCache.addAll(messageIds);
+                }
+            });
+        } else {
+            processedMessageCache.addAll(messageIds);
+        }
+        log.info("{} restaurant approval responses processed, {} orders updated, {} order payments cancelling",
+                messageIds.size(), changedOrders.size(), paymentEventPayloadsBySagaId.size());
+    }
+}
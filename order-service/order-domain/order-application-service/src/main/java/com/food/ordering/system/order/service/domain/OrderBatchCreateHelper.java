@@ -0,0 +1,216 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.customer.CustomerExistenceIndex;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+@Slf4j
+public class OrderBatchCreateHelper {
+
+    private final OrderDomainService orderDomainService;
+
+    private final OrderRepository orderRepository;
+
+    private final CustomerRepository customerRepository;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final OrderDataMapper orderDataMapper;
+
+    private final CustomerExistenceIndex customerExistenceIndex;
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+
+    private final OrderTrackingCache orderTrackingCache;
+
+    private final Validator validator;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderBatchCreateHelper(OrderDomainService orderDomainService,
+                                  OrderRepository orderRepository,
+                                  CustomerRepository customerRepository,
+                                  RestaurantRepository restaurantRepository,
+                                  OrderDataMapper orderDataMapper,
+                                  CustomerExistenceIndex customerExistenceIndex,
+                                  PaymentOutboxHelper paymentOutboxHelper,
+                                  OrderTrackingCache orderTrackingCache,
+                                  Validator validator,
+                                  OrderServiceConfigData orderServiceConfigData) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.customerExistenceIndex = customerExistenceIndex;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderTrackingCache = orderTrackingCache;
+        this.validator = validator;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Transactional
+    public List<CreateOrderResult> persistOrders(List<CreateOrderCommand> createOrderCommands) {
+        if (createOrderCommands.size() > orderServiceConfigData.getOrderBatchMaxSize()) {
+            log.warn("Rejecting order batch of size {}", createOrderCommands.size());
+            throw new OrderDomainException("Order batch size " + createOrderCommands.size() +
+                    " exceeds the maximum of " + orderServiceConfigData.getOrderBatchMaxSize());
+        }
+        List<String> commandViolations = createOrderCommands.stream()
+                .map(this::validateCommand)
+                .collect(Collectors.toList());
+        Set<UUID> existingCustomerIds = findExistingCustomers(createOrderCommands, commandViolations);
+        Map<UUID, Restaurant> restaurants = findRestaurants(createOrderCommands, commandViolations);
+
+        OrderCreatedEvent[] orderCreatedEvents = new OrderCreatedEvent[createOrderCommands.size()];
+        String[] failureMessages = new String[createOrderCommands.size()];
+        IntStream.range(0, createOrderCommands.size()).parallel().forEach(index -> {
+            if (commandViolations.get(index) != null) {
+                failureMessages[index] = commandViolations.get(index);
+                return;
+            }
+            try {
+                orderCreatedEvents[index] = validateAndInitializeOrder(createOrderCommands.get(index),
+                        existingCustomerIds, restaurants);
+            } catch (OrderDomainException e) {
+                failureMessages[index] = e.getMessage();
+            }
+        });
+
+        List<OrderCreatedEvent> createdEvents = new ArrayList<>();
+        for (OrderCreatedEvent orderCreatedEvent : orderCreatedEvents) {
+            if (orderCreatedEvent != null) {
+                createdEvents.add(orderCreatedEvent);
+            }
+        }
+        if (!createdEvents.isEmpty()) {
+            List<Order> createdOrders = createdEvents.stream()
+                    .map(OrderCreatedEvent::getOrder)
+                    .collect(Collectors.toList());
+            orderRepository.saveAll(createdOrders);
+            paymentOutboxHelper.savePaymentOutboxMessages(createdEvents.stream()
+                            .map(orderDataMapper::orderCreatedEventToOrderPaymentEventPayload)
+                            .collect(Collectors.toList()),
+                    OrderStatus.PENDING);
+            orderTrackingCache.updateAfterCommit(createdOrders);
+        }
+        log.info("{} of {} orders in batch are created", createdEvents.size(), createOrderCommands.size());
+
+        return IntStream.range(0, createOrderCommands.size())
+                .mapToObj(index -> orderCreatedEvents[index] != null ?
+                        orderDataMapper.orderToCreateOrderResult(index, orderCreatedEvents[index].getOrder()) :
+                        orderDataMapper.failureToCreateOrderResult(index, failureMessages[index]))
+                .collect(Collectors.toList());
+    }
+
+    private OrderCreatedEvent validateAndInitializeOrder(CreateOrderCommand createOrderCommand,
+                                                         Set<UUID> existingCustomerIds,
+                                                         Map<UUID, Restaurant> restaurants) {
+        if (!existingCustomerIds.contains(createOrderCommand.getCustomerId())) {
+            throw new OrderDomainException("Could not find customer with customer id : " +
+                    createOrderCommand.getCustomerId());
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant == null) {
+            throw new OrderDomainException("Could not find restaurant with restaurant id : " +
+                    createOrderCommand.getRestaurantId());
+        }
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        return orderDomainService.validateAndInitializeOrder(order, restaurant);
+    }
+
+    private String validateCommand(CreateOrderCommand createOrderCommand) {
+        if (createOrderCommand == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<Object>> violations = new HashSet<>(validator.validate(createOrderCommand));
+        if (createOrderCommand.getItems() != null) {
+            if (createOrderCommand.getItems().isEmpty()) {
+                return "Order must contain at least one item";
+            }
+            createOrderCommand.getItems().forEach(orderItem -> violations.addAll(validator.validate(orderItem)));
+        }
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("--"));
+    }
+
+    private Set<UUID> findExistingCustomers(List<CreateOrderCommand> createOrderCommands,
+                                            List<String> commandViolations) {
+        Set<UUID> customerIds = new HashSet<>();
+        Set<UUID> unknownCustomerIds = new HashSet<>();
+        for (int i = 0; i < createOrderCommands.size(); i++) {
+            if (commandViolations.get(i) == null) {
+                UUID customerId = createOrderCommands.get(i).getCustomerId();
+                if (customerExistenceIndex.contains(customerId)) {
+                    customerIds.add(customerId);
+                } else {
+                    unknownCustomerIds.add(customerId);
+                }
+            }
+        }
+        if (!unknownCustomerIds.isEmpty()) {
+            for (Customer customer : customerRepository.findCustomers(unknownCustomerIds)) {
+                customerExistenceIndex.add(customer.getId().getValue());
+                customerIds.add(customer.getId().getValue());
+            }
+        }
+        return customerIds;
+    }
+
+    private Map<UUID, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands,
+                                                  List<String> commandViolations) {
+        Map<UUID, Restaurant> restaurants = new HashMap<>();
+        Set<UUID> missingRestaurantIds = new HashSet<>();
+        for (int i = 0; i < createOrderCommands.size(); i++) {
+            UUID restaurantId = createOrderCommands.get(i).getRestaurantId();
+            if (commandViolations.get(i) != null || restaurants.containsKey(restaurantId) ||
+                    missingRestaurantIds.contains(restaurantId)) {
+                continue;
+            }
+            Optional<Restaurant> restaurant = restaurantRepository.findRestaurantInformation(
+                    Restaurant.builder().restaurantId(new RestaurantId(restaurantId)).build());
+            if (restaurant.isPresent()) {
+                restaurants.put(restaurantId, restaurant.get());
+            } else {
+                missingRestaurantIds.add(restaurantId);
+            }
+        }
+        return restaurants;
+    }
+}
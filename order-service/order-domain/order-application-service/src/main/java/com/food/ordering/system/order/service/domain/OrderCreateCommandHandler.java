@@ -2,12 +2,16 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.port.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class OrderCreateCommandHandler {
@@ -16,22 +20,32 @@ public class OrderCreateCommandHandler {
 
     private final OrderDataMapper orderDataMapper;
 
-    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderBatchCreateHelper orderBatchCreateHelper;
 
     public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
                                      OrderDataMapper orderDataMapper,
-                                     OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+                                     OrderBatchCreateHelper orderBatchCreateHelper) {
         this.orderCreateHelper = orderCreateHelper;
         this.orderDataMapper = orderDataMapper;
-        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.orderBatchCreateHelper = orderBatchCreateHelper;
     }
 
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-        orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
+        Restaurant restaurant = orderCreateHelper.checkCustomerAndRestaurant(createOrderCommand);
+        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand, restaurant);
         return orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
                 "Order Created successfully");
     }
 
+    public CreateOrdersResponse createOrders(List<CreateOrderCommand> createOrderCommands) {
+        List<CreateOrderResult> results = orderBatchCreateHelper.persistOrders(createOrderCommands);
+        int createdCount = (int) results.stream().filter(CreateOrderResult::isCreated).count();
+        log.info("Order batch processed, created: {}, failed: {}", createdCount, results.size() - createdCount);
+        return CreateOrdersResponse.builder()
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
 }
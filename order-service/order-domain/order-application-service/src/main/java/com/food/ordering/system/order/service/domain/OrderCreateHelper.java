@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.customer.CustomerExistenceIndex;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -7,15 +9,26 @@ import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.order.service.domain.port.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.port.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -31,29 +44,85 @@ public class OrderCreateHelper {
 
     private final OrderDataMapper orderDataMapper;
 
+    private final CustomerExistenceIndex customerExistenceIndex;
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+
+    private final OrderTrackingCache orderTrackingCache;
+
+    private final ExecutorService lookupExecutorService;
+
     public OrderCreateHelper(OrderDomainService orderDomainService,
                              OrderRepository orderRepository,
                              CustomerRepository customerRepository,
                              RestaurantRepository restaurantRepository,
-                             OrderDataMapper orderDataMapper) {
+                             OrderDataMapper orderDataMapper,
+                             CustomerExistenceIndex customerExistenceIndex,
+                             PaymentOutboxHelper paymentOutboxHelper,
+                             OrderTrackingCache orderTrackingCache,
+                             OrderServiceConfigData orderServiceConfigData) {
         this.orderDomainService = orderDomainService;
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.restaurantRepository = restaurantRepository;
         this.orderDataMapper = orderDataMapper;
+        this.customerExistenceIndex = customerExistenceIndex;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderTrackingCache = orderTrackingCache;
+        this.lookupExecutorService = new ThreadPoolExecutor(orderServiceConfigData.getOrderLookupThreads(),
+                orderServiceConfigData.getOrderLookupThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderServiceConfigData.getOrderLookupQueueCapacity()),
+                new CustomizableThreadFactory("order-lookup-"), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public Restaurant checkCustomerAndRestaurant(CreateOrderCommand createOrderCommand) {
+        UUID customerId = createOrderCommand.getCustomerId();
+        if (customerExistenceIndex.contains(customerId)) {
+            return checkRestaurant(createOrderCommand);
+        }
+        CompletableFuture<Void> customerCheck =
+                CompletableFuture.runAsync(() -> checkCustomer(customerId), lookupExecutorService);
+        Restaurant restaurant;
+        try {
+            restaurant = checkRestaurant(createOrderCommand);
+        } catch (OrderDomainException e) {
+            joinCustomerCheck(customerCheck);
+            throw e;
+        }
+        joinCustomerCheck(customerCheck);
+        return restaurant;
     }
 
     @Transactional
-    public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
-        checkCustomer(createOrderCommand.getCustomerId());
-        Restaurant restaurant = checkRestaurant(createOrderCommand);
+    public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
         Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
         OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitializeOrder(order, restaurant);
         saveOrder(order);
+        paymentOutboxHelper.savePaymentOutboxMessage(
+                orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent),
+                orderCreatedEvent.getOrder().getOrderStatus(),
+                UUID.randomUUID());
+        orderTrackingCache.updateAfterCommit(List.of(order));
         log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
         return orderCreatedEvent;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutorService.shutdown();
+    }
+
+    private void joinCustomerCheck(CompletableFuture<Void> customerCheck) {
+        try {
+            customerCheck.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant restaurant = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
         Optional<Restaurant> optionalRestaurant =restaurantRepository.findRestaurantInformation(restaurant);
@@ -66,11 +135,15 @@ public class OrderCreateHelper {
     }
 
     private void checkCustomer(UUID customerId) {
+        if (customerExistenceIndex.contains(customerId)) {
+            return;
+        }
         Optional<Customer> customer = customerRepository.findCustomer(customerId);
         if (customer.isEmpty()) {
             log.error("Could not find customer with customer id : {}", customerId);
             throw new OrderDomainException("Could not find customer with customer id : "+ customerId);
         }
+        customerExistenceIndex.add(customerId);
     }
 
     private Order saveOrder(Order order) {
@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderPaymentSaga {
+
+    private final OrderDomainService orderDomainService;
+
+    private final OrderRepository orderRepository;
+
+    private final OrderDataMapper orderDataMapper;
+
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+
+    private final OrderTrackingCache orderTrackingCache;
+
+    public OrderPaymentSaga(OrderDomainService orderDomainService,
+                            OrderRepository orderRepository,
+                            OrderDataMapper orderDataMapper,
+                            ApprovalOutboxHelper approvalOutboxHelper,
+                            OrderTrackingCache orderTrackingCache) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.orderTrackingCache = orderTrackingCache;
+    }
+
+    @Transactional
+    public void process(List<PaymentResponse> paymentResponses) {
+        Set<UUID> orderIds = paymentResponses.stream()
+                .map(paymentResponse -> UUID.fromString(paymentResponse.getOrderId()))
+                .collect(Collectors.toSet());
+        Map<UUID, Order> orders = orderRepository.findByIds(orderIds).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        Map<UUID, OrderApprovalEventPayload> approvalEventPayloadsBySagaId = new LinkedHashMap<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            UUID orderId = UUID.fromString(paymentResponse.getOrderId());
+            Order order = orders.get(orderId);
+            if (order == null) {
+                log.error("Order with id: {} could not be found for payment response id: {}",
+                        orderId, paymentResponse.getId());
+                continue;
+            }
+            try {
+                if (paymentResponse.getPaymentStatus() == PaymentStatus.COMPLETED) {
+                    OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+                    approvalEventPayloadsBySagaId.put(getSagaId(paymentResponse),
+                            orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent));
+                } else {
+                    orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages() == null ?
+                            new ArrayList<>() : new ArrayList<>(paymentResponse.getFailureMessages()));
+                }
+                changedOrders.put(orderId, order);
+            } catch (OrderDomainException e) {
+                log.warn("Payment response id: {} with status {} is skipped for order id: {}, order status: {}",
+                        paymentResponse.getId(), paymentResponse.getPaymentStatus(), orderId,
+                        order.getOrderStatus());
+            }
+        }
+
+        if (!changedOrders.isEmpty()) {
+            orderRepository.saveAll(new ArrayList<>(changedOrders.values()));
+            orderTrackingCache.updateAfterCommit(changedOrders.values());
+        }
+        if (!approvalEventPayloadsBySagaId.isEmpty()) {
+            approvalOutboxHelper.saveApprovalOutboxMessages(approvalEventPayloadsBySagaId, OrderStatus.PAID);
+        }
+        log.info("{} payment responses processed, {} orders updated, {} orders paid",
+                paymentResponses.size(), changedOrders.size(), approvalEventPayloadsBySagaId.size());
+    }
+
+    private UUID getSagaId(PaymentResponse paymentResponse) {
+        return paymentResponse.getSagaId() == null ? UUID.randomUUID() : UUID.fromString(paymentResponse.getSagaId());
+    }
+}
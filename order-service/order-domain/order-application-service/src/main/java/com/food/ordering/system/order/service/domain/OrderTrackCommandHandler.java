@@ -2,14 +2,14 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderStatusSubscriber;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderStatusSubscriptionRegistry;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -17,26 +17,48 @@ import java.util.Optional;
 @Slf4j
 public class OrderTrackCommandHandler {
 
-    private final OrderDataMapper orderDataMapper;
+    private final OrderTrackingRepository orderTrackingRepository;
 
-    private final OrderRepository orderRepository;
+    private final OrderTrackingCache orderTrackingCache;
 
-    public OrderTrackCommandHandler(OrderDataMapper orderDataMapper, OrderRepository orderRepository) {
-        this.orderDataMapper = orderDataMapper;
-        this.orderRepository = orderRepository;
+    private final OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    public OrderTrackCommandHandler(OrderTrackingRepository orderTrackingRepository,
+                                    OrderTrackingCache orderTrackingCache,
+                                    OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry) {
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.orderTrackingCache = orderTrackingCache;
+        this.orderStatusSubscriptionRegistry = orderStatusSubscriptionRegistry;
     }
 
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-       Optional<Order> orderResult =
-               orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
-       if(orderResult.isEmpty()) {
+       Optional<TrackOrderResponse> trackOrderResponse = orderTrackingCache.getTrackOrderResponse(
+               new TrackingId(trackOrderQuery.getOrderTrackingId()), orderTrackingRepository::findByTrackingId);
+       if(trackOrderResponse.isEmpty()) {
            log.warn("Could not found order with id: {}", trackOrderQuery.getOrderTrackingId());
            throw new OrderNotFoundException("Could not found order with id: "+
                    trackOrderQuery.getOrderTrackingId());
        }
 
-       return orderDataMapper.orderToTrackOrderResponse(orderResult.get());
+       return trackOrderResponse.get();
+    }
+
+    public TrackOrderResponse subscribeToOrderStatus(TrackOrderQuery trackOrderQuery,
+                                                     OrderStatusSubscriber orderStatusSubscriber) {
+        TrackingId trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+        orderStatusSubscriptionRegistry.subscribe(trackingId, orderStatusSubscriber);
+        try {
+            return trackOrder(trackOrderQuery);
+        } catch (OrderNotFoundException e) {
+            orderStatusSubscriptionRegistry.unsubscribe(trackingId, orderStatusSubscriber);
+            throw e;
+        }
+    }
+
+    public void unsubscribeFromOrderStatus(TrackOrderQuery trackOrderQuery,
+                                           OrderStatusSubscriber orderStatusSubscriber) {
+        orderStatusSubscriptionRegistry.unsubscribe(new TrackingId(trackOrderQuery.getOrderTrackingId()),
+                orderStatusSubscriber);
     }
 }
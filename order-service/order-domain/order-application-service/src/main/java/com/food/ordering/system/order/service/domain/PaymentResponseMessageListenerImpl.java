@@ -6,17 +6,34 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @Validated
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
+
+    private final OrderPaymentSaga orderPaymentSaga;
+
+    public PaymentResponseMessageListenerImpl(OrderPaymentSaga orderPaymentSaga) {
+        this.orderPaymentSaga = orderPaymentSaga;
+    }
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        orderPaymentSaga.process(List.of(paymentResponse));
+        log.info("Order Payment Saga process operation is completed for order id: {}", paymentResponse.getOrderId());
     }
 
     @Override
     public void paymentCanceled(PaymentResponse paymentResponse) {
+        orderPaymentSaga.process(List.of(paymentResponse));
+        log.info("Order is roll backed for order id: {} with failure messages: {}",
+                paymentResponse.getOrderId(), paymentResponse.getFailureMessages());
+    }
 
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        orderPaymentSaga.process(paymentResponses);
     }
 }
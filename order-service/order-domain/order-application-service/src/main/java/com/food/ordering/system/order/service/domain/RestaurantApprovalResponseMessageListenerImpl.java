@@ -6,17 +6,34 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @Validated
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+    private final OrderApprovalSaga orderApprovalSaga;
+
+    public RestaurantApprovalResponseMessageListenerImpl(OrderApprovalSaga orderApprovalSaga) {
+        this.orderApprovalSaga = orderApprovalSaga;
+    }
+
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        orderApprovalSaga.process(List.of(restaurantApprovalResponse));
+        log.info("Order is approved for order id: {}", restaurantApprovalResponse.getOrderId());
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        orderApprovalSaga.process(List.of(restaurantApprovalResponse));
+        log.info("Cancelling order payment for order id: {} with failure messages: {}",
+                restaurantApprovalResponse.getOrderId(), restaurantApprovalResponse.getFailureMessages());
+    }
 
+    @Override
+    public void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        orderApprovalSaga.process(restaurantApprovalResponses);
     }
 }
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service")
+public class OrderServiceConfigData {
+    private String paymentRequestTopicName;
+    private String paymentResponseTopicName;
+    private String restaurantApprovalRequestTopicName;
+    private String restaurantApprovalResponseTopicName;
+    private String customerTopicName;
+    private Long outboxSchedulerFixedRate;
+    private Long outboxSchedulerInitialDelay;
+    private Integer outboxBatchSize;
+    private Long outboxPublishTimeoutMs;
+    private Integer outboxMaxAttempts;
+    private Long outboxRetryBackoffInitialMs;
+    private Long outboxRetryBackoffMaxMs;
+    private Long customerIndexCacheSize;
+    private Integer orderBatchMaxSize;
+    private Integer processedMessageCacheSize;
+    private Long processedMessageRetentionHours;
+    private Integer publisherMaxInFlight;
+    private Integer orderLookupThreads;
+    private Integer orderLookupQueueCapacity;
+    private Long orderTrackingCacheSize;
+    private Long orderTrackingCacheExpireAfterWriteSeconds;
+    private Integer orderStatusPushThreads;
+    private Integer orderStatusPushQueueCapacity;
+    private Long orderStatusStreamTimeoutMs;
+}
@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Answers whether a customer is known to exist without loading it. Confirmed ids are kept in a size-bounded
+ * cache, so memory stays fixed instead of growing with the number of customers. An id that is not cached, never
+ * confirmed or evicted alike, falls through to the repository.
+ */
+@Slf4j
+@Component
+public class CustomerExistenceIndex {
+
+    private final Cache<UUID, Boolean> confirmedCustomerIds;
+
+    public CustomerExistenceIndex(OrderServiceConfigData orderServiceConfigData) {
+        this.confirmedCustomerIds = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getCustomerIndexCacheSize())
+                .build();
+        log.info("Customer existence index created with {} cached ids",
+                orderServiceConfigData.getCustomerIndexCacheSize());
+    }
+
+    public void add(UUID customerId) {
+        confirmedCustomerIds.put(customerId, Boolean.TRUE);
+    }
+
+    public boolean contains(UUID customerId) {
+        return confirmedCustomerIds.getIfPresent(customerId) != null;
+    }
+
+    public long size() {
+        return confirmedCustomerIds.estimatedSize();
+    }
+}
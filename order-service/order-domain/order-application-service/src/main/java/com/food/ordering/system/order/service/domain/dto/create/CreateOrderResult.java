@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Builder
+@Getter
+public class CreateOrderResult {
+    private final int index;
+    private final boolean created;
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    private final List<String> failureMessages;
+}
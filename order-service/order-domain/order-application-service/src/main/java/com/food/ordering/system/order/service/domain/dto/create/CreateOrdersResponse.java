@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Getter
+public class CreateOrdersResponse {
+    private final int createdCount;
+    private final int failedCount;
+    private final List<CreateOrderResult> results;
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Builder
+@Getter
+public class CustomerModel {
+    private String id;
+    private String username;
+    private String firstName;
+    private String lastName;
+}
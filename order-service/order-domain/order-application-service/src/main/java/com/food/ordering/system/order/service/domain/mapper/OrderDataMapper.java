@@ -3,15 +3,24 @@ package com.food.ordering.system.order.service.domain.mapper;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -33,7 +42,7 @@ public class OrderDataMapper {
                .customerId(new CustomerId(createOrderCommand.getCustomerId()))
                .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
                .deliveryAddress(orderAddressToStreetAddress(createOrderCommand.getAddress()))
-               .price(new Money(createOrderCommand.getPrice()))
+               .price(amountToMoney(createOrderCommand.getPrice()))
                .items(orderItemsToOrderItemsEntities(createOrderCommand.getItems()))
                .build();
     }
@@ -46,11 +55,67 @@ public class OrderDataMapper {
                .build();
     }
 
+    public CreateOrderResult orderToCreateOrderResult(int index, Order order) {
+       return CreateOrderResult.builder()
+               .index(index)
+               .created(true)
+               .orderTrackingId(order.getTrackingId().getValue())
+               .orderStatus(order.getOrderStatus())
+               .failureMessages(List.of())
+               .build();
+    }
+
+    public CreateOrderResult failureToCreateOrderResult(int index, String failureMessage) {
+       return CreateOrderResult.builder()
+               .index(index)
+               .created(false)
+               .failureMessages(List.of(failureMessage))
+               .build();
+    }
+
     public TrackOrderResponse orderToTrackOrderResponse(Order order) {
        return TrackOrderResponse.builder()
                .orderTrackingId(order.getTrackingId().getValue())
                .orderStatus(order.getOrderStatus())
-               .failureMessages(order.getFailureMessages())
+               .failureMessages(order.getFailureMessages() == null ?
+                       List.of() : List.copyOf(order.getFailureMessages()))
+               .build();
+    }
+
+    public OrderPaymentEventPayload orderCreatedEventToOrderPaymentEventPayload(OrderCreatedEvent orderCreatedEvent) {
+       return OrderPaymentEventPayload.builder()
+               .orderId(orderCreatedEvent.getOrder().getId().getValue().toString())
+               .customerId(orderCreatedEvent.getOrder().getCustomerId().getValue().toString())
+               .price(orderCreatedEvent.getOrder().getPrice().getAmount())
+               .createdAt(orderCreatedEvent.getCreatedAt())
+               .paymentOrderStatus(PaymentOrderStatus.PENDING.name())
+               .build();
+    }
+
+    public OrderPaymentEventPayload orderCancelledEventToOrderPaymentEventPayload(
+            OrderCancelledEvent orderCancelledEvent) {
+       return OrderPaymentEventPayload.builder()
+               .orderId(orderCancelledEvent.getOrder().getId().getValue().toString())
+               .customerId(orderCancelledEvent.getOrder().getCustomerId().getValue().toString())
+               .price(orderCancelledEvent.getOrder().getPrice().getAmount())
+               .createdAt(orderCancelledEvent.getCreatedAt())
+               .paymentOrderStatus(PaymentOrderStatus.CANCELLED.name())
+               .build();
+    }
+
+    public OrderApprovalEventPayload orderPaidEventToOrderApprovalEventPayload(OrderPaidEvent orderPaidEvent) {
+       return OrderApprovalEventPayload.builder()
+               .orderId(orderPaidEvent.getOrder().getId().getValue().toString())
+               .restaurantId(orderPaidEvent.getOrder().getRestaurantId().getValue().toString())
+               .restaurantOrderStatus(RestaurantOrderStatus.PAID.name())
+               .products(orderPaidEvent.getOrder().getItems().stream().map(orderItem ->
+                       OrderApprovalEventProduct.builder()
+                               .id(orderItem.getProduct().getId().getValue().toString())
+                               .quantity(orderItem.getQuantity())
+                               .build())
+                       .collect(Collectors.toList()))
+               .price(orderPaidEvent.getOrder().getPrice().getAmount())
+               .createdAt(orderPaidEvent.getCreatedAt())
                .build();
     }
 
@@ -60,13 +125,21 @@ public class OrderDataMapper {
                .map(orderItem ->
                        OrderItem.builder()
                                .product(new Product(new ProductId(orderItem.getProductId())))
-                               .price(new Money(orderItem.getPrice()))
+                               .price(amountToMoney(orderItem.getPrice()))
                                .quantity(orderItem.getQuantity())
-                               .subTotal(new Money(orderItem.getSubTotal()))
+                               .subTotal(amountToMoney(orderItem.getSubTotal()))
                                .build())
                .collect(Collectors.toList());
     }
 
+    private Money amountToMoney(BigDecimal amount) {
+       try {
+           return new Money(amount);
+       } catch (ArithmeticException e) {
+           throw new OrderDomainException("Amount: " + amount + " is not a valid price!", e);
+       }
+    }
+
     private StreetAddress orderAddressToStreetAddress(OrderAddress orderAddress) {
        return new StreetAddress(
                UUID.randomUUID(),
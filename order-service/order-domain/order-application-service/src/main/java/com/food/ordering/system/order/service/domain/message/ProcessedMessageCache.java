@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain.message;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Component
+public class ProcessedMessageCache {
+
+    private final Cache<UUID, Boolean> messageIds;
+
+    public ProcessedMessageCache(OrderServiceConfigData orderServiceConfigData) {
+        this.messageIds = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getProcessedMessageCacheSize())
+                .build();
+    }
+
+    public boolean contains(UUID messageId) {
+        return messageIds.getIfPresent(messageId) != null;
+    }
+
+    public void addAll(Collection<UUID> processedMessageIds) {
+        processedMessageIds.forEach(messageId -> messageIds.put(messageId, Boolean.TRUE));
+    }
+
+    public long size() {
+        return messageIds.estimatedSize();
+    }
+}
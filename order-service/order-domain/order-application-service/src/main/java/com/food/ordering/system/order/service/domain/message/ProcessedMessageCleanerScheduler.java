@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.domain.message;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.port.output.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+@Slf4j
+@Component
+public class ProcessedMessageCleanerScheduler {
+
+    private final static String UTC = "UTC";
+
+    private final ProcessedMessageRepository processedMessageRepository;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public ProcessedMessageCleanerScheduler(ProcessedMessageRepository processedMessageRepository,
+                                            OrderServiceConfigData orderServiceConfigData) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Transactional
+    @Scheduled(cron = "@midnight")
+    public void deleteExpiredProcessedMessages() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusHours(orderServiceConfigData.getProcessedMessageRetentionHours());
+        log.info("Deleting processed messages older than {}", processedBefore);
+        processedMessageRepository.deleteProcessedBefore(processedBefore);
+    }
+}
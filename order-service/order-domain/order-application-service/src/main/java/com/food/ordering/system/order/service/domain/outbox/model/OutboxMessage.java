@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import java.util.UUID;
+
+public interface OutboxMessage {
+
+    UUID getId();
+
+    int getAttemptCount();
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderApprovalEventProduct {
+    @JsonProperty
+    private String id;
+    @JsonProperty
+    private Integer quantity;
+}
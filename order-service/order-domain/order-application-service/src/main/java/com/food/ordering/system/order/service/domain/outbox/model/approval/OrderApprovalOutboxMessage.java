@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderApprovalOutboxMessage implements OutboxMessage {
+    private UUID id;
+    private UUID sagaId;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private String payload;
+    private OrderStatus orderStatus;
+    private OutboxStatus outboxStatus;
+    private int attemptCount;
+    private ZonedDateTime nextAttemptAt;
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.port.output.repository.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Claims outbox messages for the relay and records their publish outcome. Claimed rows are locked with
+ * SKIP LOCKED and leased for the publish timeout, so relays on other instances never pick them up twice.
+ * Failed rows are retried with exponential back-off until outbox-max-attempts is reached. Rows that were
+ * not sent at all, e.g. because the publisher had too many messages in flight, get their lease released
+ * without using up an attempt.
+ */
+@Slf4j
+public abstract class OutboxHelper<T extends OutboxMessage> {
+
+    protected final static String UTC = "UTC";
+
+    private final OutboxRepository<T> outboxRepository;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    protected OutboxHelper(OutboxRepository<T> outboxRepository, OrderServiceConfigData orderServiceConfigData) {
+        this.outboxRepository = outboxRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Transactional
+    public List<T> claimOutboxMessagesToPublish(int limit) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+        List<T> outboxMessages = outboxRepository.findAndLockByOutboxStatus(limit,
+                orderServiceConfigData.getOutboxMaxAttempts(), now, OutboxStatus.STARTED, OutboxStatus.FAILED);
+        if (!outboxMessages.isEmpty()) {
+            outboxRepository.updateNextAttemptAt(outboxIds(outboxMessages),
+                    now.plus(orderServiceConfigData.getOutboxPublishTimeoutMs(), ChronoUnit.MILLIS));
+        }
+        return outboxMessages;
+    }
+
+    @Transactional
+    public void updateOutboxStatus(Map<OutboxStatus, List<T>> outboxMessagesByStatus) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+        List<T> completedMessages = outboxMessagesByStatus.get(OutboxStatus.COMPLETED);
+        if (completedMessages != null) {
+            outboxRepository.updateOutboxStatus(outboxIds(completedMessages), OutboxStatus.COMPLETED, now);
+        }
+        List<T> notSentMessages = outboxMessagesByStatus.get(OutboxStatus.STARTED);
+        if (notSentMessages != null) {
+            outboxRepository.updateNextAttemptAt(outboxIds(notSentMessages), now);
+        }
+        List<T> failedMessages = outboxMessagesByStatus.get(OutboxStatus.FAILED);
+        if (failedMessages != null) {
+            failedMessages.stream()
+                    .collect(Collectors.groupingBy(outboxMessage -> outboxMessage.getAttemptCount() + 1))
+                    .forEach((attemptCount, outboxMessages) -> updateFailedOutboxMessages(outboxMessages,
+                            attemptCount, now));
+        }
+    }
+
+    private void updateFailedOutboxMessages(List<T> outboxMessages, int attemptCount, ZonedDateTime now) {
+        List<UUID> outboxIds = outboxIds(outboxMessages);
+        if (attemptCount >= orderServiceConfigData.getOutboxMaxAttempts()) {
+            log.error("Outbox messages with ids {} failed {} times and will not be published again",
+                    outboxIds, attemptCount);
+        }
+        outboxRepository.updateOutboxStatus(outboxIds, OutboxStatus.FAILED, attemptCount,
+                now.plus(retryBackOffMs(attemptCount), ChronoUnit.MILLIS), now);
+    }
+
+    private long retryBackOffMs(int attemptCount) {
+        double backOffMs = orderServiceConfigData.getOutboxRetryBackoffInitialMs() * Math.pow(2, attemptCount - 1);
+        return (long) Math.min(backOffMs, orderServiceConfigData.getOutboxRetryBackoffMaxMs());
+    }
+
+    private List<UUID> outboxIds(List<T> outboxMessages) {
+        return outboxMessages.stream().map(OutboxMessage::getId).collect(Collectors.toList());
+    }
+}
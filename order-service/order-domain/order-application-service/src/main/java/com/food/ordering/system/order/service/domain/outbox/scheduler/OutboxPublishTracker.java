@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects publish callbacks for one outbox batch, so the relay can record every
+ * acknowledged message with a single status update per outcome.
+ */
+@Slf4j
+public class OutboxPublishTracker<T> {
+
+    private final CountDownLatch pendingCallbacks;
+    private final Map<OutboxStatus, Queue<T>> outboxMessagesByStatus = new EnumMap<>(OutboxStatus.class);
+
+    public OutboxPublishTracker(int batchSize) {
+        this.pendingCallbacks = new CountDownLatch(batchSize);
+        for (OutboxStatus outboxStatus : OutboxStatus.values()) {
+            outboxMessagesByStatus.put(outboxStatus, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public BiConsumer<T, OutboxStatus> callback() {
+        return (outboxMessage, outboxStatus) -> {
+            outboxMessagesByStatus.get(outboxStatus).add(outboxMessage);
+            pendingCallbacks.countDown();
+        };
+    }
+
+    public Map<OutboxStatus, List<T>> awaitCompletion(long timeoutMs) {
+        try {
+            if (!pendingCallbacks.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("{} outbox messages were not acknowledged within {} ms, they will be published again",
+                        pendingCallbacks.getCount(), timeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Map<OutboxStatus, List<T>> result = new EnumMap<>(OutboxStatus.class);
+        outboxMessagesByStatus.forEach((outboxStatus, outboxMessages) -> {
+            if (!outboxMessages.isEmpty()) {
+                result.put(outboxStatus, new ArrayList<>(outboxMessages));
+            }
+        });
+        return result;
+    }
+}
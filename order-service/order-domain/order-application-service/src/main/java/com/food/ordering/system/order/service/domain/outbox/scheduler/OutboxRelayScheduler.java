@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Drains an outbox page by page: each page is claimed, published and its outcome recorded, and the next
+ * page is fetched right away as long as the previous one was full and completely acknowledged.
+ */
+@Slf4j
+public abstract class OutboxRelayScheduler<T extends OutboxMessage> implements OutboxScheduler {
+
+    private final OutboxHelper<T> outboxHelper;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    private final String outboxMessageName;
+
+    protected OutboxRelayScheduler(OutboxHelper<T> outboxHelper,
+                                   OrderServiceConfigData orderServiceConfigData,
+                                   String outboxMessageName) {
+        this.outboxHelper = outboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.outboxMessageName = outboxMessageName;
+    }
+
+    protected abstract void publish(T outboxMessage, BiConsumer<T, OutboxStatus> outboxCallback);
+
+    @Override
+    @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
+            initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        while (publishOutboxMessages()) {
+            log.debug("Full page of {} sent, fetching next page", outboxMessageName);
+        }
+    }
+
+    private boolean publishOutboxMessages() {
+        int outboxBatchSize = orderServiceConfigData.getOutboxBatchSize();
+        List<T> outboxMessages = outboxHelper.claimOutboxMessagesToPublish(outboxBatchSize);
+        if (outboxMessages.isEmpty()) {
+            return false;
+        }
+        log.info("Received {} {} to send to message bus", outboxMessages.size(), outboxMessageName);
+        OutboxPublishTracker<T> tracker = new OutboxPublishTracker<>(outboxMessages.size());
+        outboxMessages.forEach(outboxMessage -> publish(outboxMessage, tracker.callback()));
+        Map<OutboxStatus, List<T>> outboxMessagesByStatus =
+                tracker.awaitCompletion(orderServiceConfigData.getOutboxPublishTimeoutMs());
+        outboxHelper.updateOutboxStatus(outboxMessagesByStatus);
+        int completed = outboxMessagesByStatus.getOrDefault(OutboxStatus.COMPLETED, List.of()).size();
+        log.info("{} {} sent to message bus", completed, outboxMessageName);
+        return outboxMessages.size() == outboxBatchSize && completed == outboxBatchSize;
+    }
+}
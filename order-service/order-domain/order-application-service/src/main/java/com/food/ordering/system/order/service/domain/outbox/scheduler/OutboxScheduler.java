@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+public interface OutboxScheduler {
+    void processOutboxMessage();
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ApprovalOutboxCleanerScheduler implements OutboxScheduler {
+
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+
+    public ApprovalOutboxCleanerScheduler(ApprovalOutboxHelper approvalOutboxHelper) {
+        this.approvalOutboxHelper = approvalOutboxHelper;
+    }
+
+    @Override
+    @Scheduled(cron = "@midnight")
+    public void processOutboxMessage() {
+        log.info("Deleting completed OrderApprovalOutboxMessage");
+        approvalOutboxHelper.deleteCompletedApprovalOutboxMessages();
+    }
+}
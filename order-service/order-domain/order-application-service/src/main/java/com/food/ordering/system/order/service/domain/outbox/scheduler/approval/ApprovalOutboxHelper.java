@@ -0,0 +1,93 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.ApprovalOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ApprovalOutboxHelper extends OutboxHelper<OrderApprovalOutboxMessage> {
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public ApprovalOutboxHelper(ApprovalOutboxRepository approvalOutboxRepository,
+                                OrderServiceConfigData orderServiceConfigData,
+                                ObjectMapper objectMapper) {
+        super(approvalOutboxRepository, orderServiceConfigData);
+        this.approvalOutboxRepository = approvalOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    public void saveApprovalOutboxMessage(OrderApprovalEventPayload orderApprovalEventPayload,
+                                         OrderStatus orderStatus,
+                                         UUID sagaId) {
+        OrderApprovalOutboxMessage orderApprovalOutboxMessage =
+                createApprovalOutboxMessage(orderApprovalEventPayload, orderStatus, sagaId);
+        OrderApprovalOutboxMessage response = approvalOutboxRepository.save(orderApprovalOutboxMessage);
+        if (response == null) {
+            log.error("Could not save OrderApprovalOutboxMessage with outbox id: {}", orderApprovalOutboxMessage.getId());
+            throw new OrderDomainException("Could not save OrderApprovalOutboxMessage with outbox id: " +
+                    orderApprovalOutboxMessage.getId());
+        }
+        log.info("OrderApprovalOutboxMessage saved with outbox id: {}", orderApprovalOutboxMessage.getId());
+    }
+
+    @Transactional
+    public void saveApprovalOutboxMessages(Map<UUID, OrderApprovalEventPayload> orderApprovalEventPayloadsBySagaId,
+                                           OrderStatus orderStatus) {
+        List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages = orderApprovalEventPayloadsBySagaId.entrySet()
+                .stream()
+                .map(entry -> createApprovalOutboxMessage(entry.getValue(), orderStatus, entry.getKey()))
+                .collect(Collectors.toList());
+        approvalOutboxRepository.saveAll(orderApprovalOutboxMessages);
+        log.info("{} OrderApprovalOutboxMessage saved", orderApprovalOutboxMessages.size());
+    }
+
+    @Transactional
+    public void deleteCompletedApprovalOutboxMessages() {
+        approvalOutboxRepository.deleteByOutboxStatus(OutboxStatus.COMPLETED);
+    }
+
+    private OrderApprovalOutboxMessage createApprovalOutboxMessage(OrderApprovalEventPayload orderApprovalEventPayload,
+                                                                 OrderStatus orderStatus,
+                                                                 UUID sagaId) {
+        return OrderApprovalOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderApprovalEventPayload.getCreatedAt())
+                .payload(createPayload(orderApprovalEventPayload))
+                .orderStatus(orderStatus)
+                .outboxStatus(OutboxStatus.STARTED)
+                .nextAttemptAt(orderApprovalEventPayload.getCreatedAt())
+                .build();
+    }
+
+    private String createPayload(OrderApprovalEventPayload orderApprovalEventPayload) {
+        try {
+            return objectMapper.writeValueAsString(orderApprovalEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create OrderApprovalEventPayload object for order id: {}",
+                    orderApprovalEventPayload.getOrderId(), e);
+            throw new OrderDomainException("Could not create OrderApprovalEventPayload object for order id: " +
+                    orderApprovalEventPayload.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxRelayScheduler;
+import com.food.ordering.system.order.service.domain.port.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Component
+public class ApprovalOutboxScheduler extends OutboxRelayScheduler<OrderApprovalOutboxMessage> {
+
+    private final RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher;
+
+    public ApprovalOutboxScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                   RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher,
+                                   OrderServiceConfigData orderServiceConfigData) {
+        super(approvalOutboxHelper, orderServiceConfigData, "OrderApprovalOutboxMessage");
+        this.restaurantApprovalRequestMessagePublisher = restaurantApprovalRequestMessagePublisher;
+    }
+
+    @Override
+    protected void publish(OrderApprovalOutboxMessage outboxMessage,
+                           BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback) {
+        restaurantApprovalRequestMessagePublisher.publish(outboxMessage, outboxCallback);
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+
+    public PaymentOutboxCleanerScheduler(PaymentOutboxHelper paymentOutboxHelper) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+    }
+
+    @Override
+    @Scheduled(cron = "@midnight")
+    public void processOutboxMessage() {
+        log.info("Deleting completed OrderPaymentOutboxMessage");
+        paymentOutboxHelper.deleteCompletedPaymentOutboxMessages();
+    }
+}
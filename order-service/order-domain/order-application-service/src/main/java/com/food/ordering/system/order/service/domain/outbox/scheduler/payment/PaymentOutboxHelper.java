@@ -0,0 +1,104 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.PaymentOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PaymentOutboxHelper extends OutboxHelper<OrderPaymentOutboxMessage> {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public PaymentOutboxHelper(PaymentOutboxRepository paymentOutboxRepository,
+                               OrderServiceConfigData orderServiceConfigData,
+                               ObjectMapper objectMapper) {
+        super(paymentOutboxRepository, orderServiceConfigData);
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    public void savePaymentOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
+                                         OrderStatus orderStatus,
+                                         UUID sagaId) {
+        OrderPaymentOutboxMessage orderPaymentOutboxMessage =
+                createPaymentOutboxMessage(orderPaymentEventPayload, orderStatus, sagaId);
+        OrderPaymentOutboxMessage response = paymentOutboxRepository.save(orderPaymentOutboxMessage);
+        if (response == null) {
+            log.error("Could not save OrderPaymentOutboxMessage with outbox id: {}", orderPaymentOutboxMessage.getId());
+            throw new OrderDomainException("Could not save OrderPaymentOutboxMessage with outbox id: " +
+                    orderPaymentOutboxMessage.getId());
+        }
+        log.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
+    }
+
+    @Transactional
+    public void savePaymentOutboxMessages(List<OrderPaymentEventPayload> orderPaymentEventPayloads,
+                                          OrderStatus orderStatus) {
+        List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages = orderPaymentEventPayloads.stream()
+                .map(orderPaymentEventPayload ->
+                        createPaymentOutboxMessage(orderPaymentEventPayload, orderStatus, UUID.randomUUID()))
+                .collect(Collectors.toList());
+        paymentOutboxRepository.saveAll(orderPaymentOutboxMessages);
+        log.info("{} OrderPaymentOutboxMessage saved", orderPaymentOutboxMessages.size());
+    }
+
+    @Transactional
+    public void savePaymentOutboxMessages(Map<UUID, OrderPaymentEventPayload> orderPaymentEventPayloadsBySagaId,
+                                          OrderStatus orderStatus) {
+        List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages = orderPaymentEventPayloadsBySagaId.entrySet()
+                .stream()
+                .map(entry -> createPaymentOutboxMessage(entry.getValue(), orderStatus, entry.getKey()))
+                .collect(Collectors.toList());
+        paymentOutboxRepository.saveAll(orderPaymentOutboxMessages);
+        log.info("{} OrderPaymentOutboxMessage saved", orderPaymentOutboxMessages.size());
+    }
+
+    @Transactional
+    public void deleteCompletedPaymentOutboxMessages() {
+        paymentOutboxRepository.deleteByOutboxStatus(OutboxStatus.COMPLETED);
+    }
+
+    private OrderPaymentOutboxMessage createPaymentOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
+                                                                 OrderStatus orderStatus,
+                                                                 UUID sagaId) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderPaymentEventPayload.getCreatedAt())
+                .payload(createPayload(orderPaymentEventPayload))
+                .orderStatus(orderStatus)
+                .outboxStatus(OutboxStatus.STARTED)
+                .nextAttemptAt(orderPaymentEventPayload.getCreatedAt())
+                .build();
+    }
+
+    private String createPayload(OrderPaymentEventPayload orderPaymentEventPayload) {
+        try {
+            return objectMapper.writeValueAsString(orderPaymentEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create OrderPaymentEventPayload object for order id: {}",
+                    orderPaymentEventPayload.getOrderId(), e);
+            throw new OrderDomainException("Could not create OrderPaymentEventPayload object for order id: " +
+                    orderPaymentEventPayload.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxRelayScheduler;
+import com.food.ordering.system.order.service.domain.port.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Component
+public class PaymentOutboxScheduler extends OutboxRelayScheduler<OrderPaymentOutboxMessage> {
+
+    private final PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+
+    public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher,
+                                  OrderServiceConfigData orderServiceConfigData) {
+        super(paymentOutboxHelper, orderServiceConfigData, "OrderPaymentOutboxMessage");
+        this.paymentRequestMessagePublisher = paymentRequestMessagePublisher;
+    }
+
+    @Override
+    protected void publish(OrderPaymentOutboxMessage outboxMessage,
+                           BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        paymentRequestMessagePublisher.publish(outboxMessage, outboxCallback);
+    }
+}
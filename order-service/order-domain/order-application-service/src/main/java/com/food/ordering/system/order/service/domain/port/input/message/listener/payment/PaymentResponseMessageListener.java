@@ -2,10 +2,14 @@ package com.food.ordering.system.order.service.domain.port.input.message.listene
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
 
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCanceled(PaymentResponse paymentResponse);
 
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
+
 }
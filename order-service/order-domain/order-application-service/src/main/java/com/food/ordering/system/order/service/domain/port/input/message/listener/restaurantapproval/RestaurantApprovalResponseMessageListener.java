@@ -2,8 +2,12 @@ package com.food.ordering.system.order.service.domain.port.input.message.listene
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 
+import java.util.List;
+
 public interface RestaurantApprovalResponseMessageListener {
     void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse);
 
     void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse);
+
+    void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses);
 }
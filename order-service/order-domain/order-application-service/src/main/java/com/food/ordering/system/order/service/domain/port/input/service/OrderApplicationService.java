@@ -2,13 +2,24 @@ package com.food.ordering.system.order.service.domain.port.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
 
 public interface OrderApplicationService {
 
    CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+   CreateOrdersResponse createOrders(@NotEmpty List<CreateOrderCommand> createOrderCommands);
+
    TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+   TrackOrderResponse subscribeToOrderStatus(@Valid TrackOrderQuery trackOrderQuery,
+                                             OrderStatusSubscriber orderStatusSubscriber);
+
+   void unsubscribeFromOrderStatus(TrackOrderQuery trackOrderQuery, OrderStatusSubscriber orderStatusSubscriber);
 }
@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.port.input.service;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+
+public interface OrderStatusSubscriber {
+
+    void onOrderStatusChange(TrackOrderResponse trackOrderResponse);
+}
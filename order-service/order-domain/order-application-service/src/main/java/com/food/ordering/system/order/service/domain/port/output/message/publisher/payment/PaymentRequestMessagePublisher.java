@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.port.output.message.publisher.payment;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.util.function.BiConsumer;
+
+public interface PaymentRequestMessagePublisher {
+    void publish(OrderPaymentOutboxMessage orderPaymentOutboxMessage,
+                 BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback);
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.port.output.message.publisher.restaurantapproval;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.util.function.BiConsumer;
+
+public interface RestaurantApprovalRequestMessagePublisher {
+    void publish(OrderApprovalOutboxMessage orderApprovalOutboxMessage,
+                 BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback);
+}
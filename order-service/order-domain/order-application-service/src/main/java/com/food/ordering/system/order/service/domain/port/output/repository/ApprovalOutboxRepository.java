@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.port.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.util.List;
+
+public interface ApprovalOutboxRepository extends OutboxRepository<OrderApprovalOutboxMessage> {
+
+    OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage);
+
+    void saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages);
+}
@@ -2,10 +2,16 @@ package com.food.ordering.system.order.service.domain.port.output.repository;
 
 import com.food.ordering.system.order.service.domain.entity.Customer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepository {
 
     Optional<Customer> findCustomer(UUID customerId);
+
+    List<Customer> findCustomers(Collection<UUID> customerIds);
+
+    Customer save(Customer customer);
 }
@@ -3,10 +3,17 @@ package com.food.ordering.system.order.service.domain.port.output.repository;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface OrderRepository {
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
+
+    List<Order> findByIds(Collection<UUID> orderIds);
 }
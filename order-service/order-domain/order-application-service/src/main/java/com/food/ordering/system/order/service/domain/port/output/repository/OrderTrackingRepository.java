@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.port.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+
+    Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId);
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.port.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxRepository<T extends OutboxMessage> {
+
+    /**
+     * Returns up to limit messages in one of the given statuses that are due at the given time and have
+     * fewer than maxAttempts attempts, locking their rows and skipping rows already locked by another relay.
+     */
+    List<T> findAndLockByOutboxStatus(int limit, int maxAttempts, ZonedDateTime dueAt, OutboxStatus... outboxStatus);
+
+    void updateNextAttemptAt(List<UUID> outboxMessageIds, ZonedDateTime nextAttemptAt);
+
+    void updateOutboxStatus(List<UUID> outboxMessageIds, OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+    void updateOutboxStatus(List<UUID> outboxMessageIds,
+                            OutboxStatus outboxStatus,
+                            int attemptCount,
+                            ZonedDateTime nextAttemptAt,
+                            ZonedDateTime processedAt);
+
+    void deleteByOutboxStatus(OutboxStatus outboxStatus);
+}
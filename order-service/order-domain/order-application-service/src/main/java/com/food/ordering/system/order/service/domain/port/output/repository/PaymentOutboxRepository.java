@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.port.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.util.List;
+
+public interface PaymentOutboxRepository extends OutboxRepository<OrderPaymentOutboxMessage> {
+
+    OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+
+    void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.port.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ids of the payment and approval responses already applied, written in the same database transaction as the
+ * order update and its outbox rows. Kafka transactions cannot take this over: they only make Kafka writes and
+ * consumed offsets atomic, while a response here results in a database write and no produce step at all, so a
+ * redelivered response would be applied again without this table.
+ */
+public interface ProcessedMessageRepository {
+
+    Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds);
+
+    void saveAll(Collection<UUID> messageIds, ZonedDateTime processedAt);
+
+    void deleteProcessedBefore(ZonedDateTime processedAt);
+}
@@ -0,0 +1,123 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderStatusSubscriber;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class OrderStatusSubscriptionRegistry {
+
+    private final Map<UUID, OrderStatusSubscriber[]> subscribersByTrackingId = new ConcurrentHashMap<>();
+
+    private final ExecutorService pushExecutorService;
+
+    private final LongAdder droppedPushCount = new LongAdder();
+
+    public OrderStatusSubscriptionRegistry(OrderServiceConfigData orderServiceConfigData) {
+        this.pushExecutorService = new ThreadPoolExecutor(orderServiceConfigData.getOrderStatusPushThreads(),
+                orderServiceConfigData.getOrderStatusPushThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderServiceConfigData.getOrderStatusPushQueueCapacity()),
+                new CustomizableThreadFactory("order-status-push-"),
+                (push, executor) -> rejectPush((StatusPush) push));
+    }
+
+    public void subscribe(TrackingId trackingId, OrderStatusSubscriber subscriber) {
+        subscribersByTrackingId.merge(trackingId.getValue(), new OrderStatusSubscriber[]{subscriber},
+                (subscribers, added) -> {
+                    OrderStatusSubscriber[] result = Arrays.copyOf(subscribers, subscribers.length + 1);
+                    result[subscribers.length] = subscriber;
+                    return result;
+                });
+    }
+
+    public void unsubscribe(TrackingId trackingId, OrderStatusSubscriber subscriber) {
+        subscribersByTrackingId.computeIfPresent(trackingId.getValue(), (id, subscribers) -> {
+            OrderStatusSubscriber[] remaining = Arrays.stream(subscribers)
+                    .filter(current -> current != subscriber)
+                    .toArray(OrderStatusSubscriber[]::new);
+            return remaining.length == 0 ? null : remaining;
+        });
+    }
+
+    public void publish(Collection<TrackOrderResponse> trackOrderResponses) {
+        if (subscribersByTrackingId.isEmpty()) {
+            return;
+        }
+        trackOrderResponses.forEach(trackOrderResponse -> {
+            OrderStatusSubscriber[] subscribers = subscribersByTrackingId.get(trackOrderResponse.getOrderTrackingId());
+            if (subscribers != null) {
+                pushExecutorService.execute(new StatusPush(subscribers, trackOrderResponse));
+            }
+        });
+    }
+
+    public int getSubscribedOrderCount() {
+        return subscribersByTrackingId.size();
+    }
+
+    public long getDroppedPushCount() {
+        return droppedPushCount.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutorService.shutdown();
+    }
+
+    private void rejectPush(StatusPush push) {
+        // A full queue drops intermediate statuses instead of running them on the committing thread; a later
+        // push or a poll catches the client up. Nothing follows a terminal status though, so dropping it would
+        // leave the subscriber open until it times out; those are pushed from the caller instead.
+        if (push.isTerminal()) {
+            push.run();
+        } else {
+            droppedPushCount.increment();
+        }
+    }
+
+    private static final class StatusPush implements Runnable {
+
+        private final OrderStatusSubscriber[] subscribers;
+        private final TrackOrderResponse trackOrderResponse;
+
+        private StatusPush(OrderStatusSubscriber[] subscribers, TrackOrderResponse trackOrderResponse) {
+            this.subscribers = subscribers;
+            this.trackOrderResponse = trackOrderResponse;
+        }
+
+        private boolean isTerminal() {
+            OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+            return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED;
+        }
+
+        @Override
+        public void run() {
+            for (OrderStatusSubscriber subscriber : subscribers) {
+                try {
+                    subscriber.onOrderStatusChange(trackOrderResponse);
+                } catch (RuntimeException e) {
+                    log.warn("Could not push status {} of order with tracking id: {}",
+                            trackOrderResponse.getOrderStatus(), trackOrderResponse.getOrderTrackingId(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderTrackingCache {
+
+    private final OrderDataMapper orderDataMapper;
+
+    private final OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    private final Cache<UUID, TrackOrderResponse> trackOrderResponses;
+
+    public OrderTrackingCache(OrderDataMapper orderDataMapper,
+                              OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry,
+                              OrderServiceConfigData orderServiceConfigData) {
+        this.orderDataMapper = orderDataMapper;
+        this.orderStatusSubscriptionRegistry = orderStatusSubscriptionRegistry;
+        this.trackOrderResponses = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getOrderTrackingCacheSize())
+                .expireAfterWrite(
+                        Duration.ofSeconds(orderServiceConfigData.getOrderTrackingCacheExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TrackOrderResponse> getTrackOrderResponse(
+            TrackingId trackingId,
+            Function<TrackingId, Optional<TrackOrderResponse>> loader) {
+        return Optional.ofNullable(trackOrderResponses.get(trackingId.getValue(),
+                key -> loader.apply(trackingId).orElse(null)));
+    }
+
+    public void updateAfterCommit(Collection<Order> orders) {
+        List<TrackOrderResponse> responses = orders.stream()
+                .map(orderDataMapper::orderToTrackOrderResponse)
+                .collect(Collectors.toList());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putAll(responses);
+                    orderStatusSubscriptionRegistry.publish(responses);
+                }
+            });
+        } else {
+            putAll(responses);
+            orderStatusSubscriptionRegistry.publish(responses);
+        }
+    }
+
+    public CacheStats getStats() {
+        return trackOrderResponses.stats();
+    }
+
+    public Cache<UUID, TrackOrderResponse> getNativeCache() {
+        return trackOrderResponses;
+    }
+
+    private void putAll(List<TrackOrderResponse> responses) {
+        responses.forEach(response -> trackOrderResponses.put(response.getOrderTrackingId(), response));
+    }
+}
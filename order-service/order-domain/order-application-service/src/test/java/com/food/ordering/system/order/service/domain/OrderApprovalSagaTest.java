@@ -0,0 +1,96 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.message.ProcessedMessageCache;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class OrderApprovalSagaTest {
+
+    private final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
+
+    private OrderRepository orderRepository;
+    private ProcessedMessageRepository processedMessageRepository;
+    private PaymentOutboxHelper paymentOutboxHelper;
+    private OrderTrackingCache orderTrackingCache;
+    private OrderApprovalSaga orderApprovalSaga;
+
+    @BeforeEach
+    public void init() {
+        orderRepository = Mockito.mock(OrderRepository.class);
+        processedMessageRepository = Mockito.mock(ProcessedMessageRepository.class);
+        paymentOutboxHelper = Mockito.mock(PaymentOutboxHelper.class);
+        orderTrackingCache = Mockito.mock(OrderTrackingCache.class);
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setProcessedMessageCacheSize(10);
+        orderApprovalSaga = new OrderApprovalSaga(new OrderDomainServiceImpl(), orderRepository,
+                processedMessageRepository, new ProcessedMessageCache(orderServiceConfigData),
+                new OrderDataMapper(), paymentOutboxHelper, orderTrackingCache);
+    }
+
+    @Test
+    public void testApproveAndReplayIsNoOp() {
+        Order order = Order.builder()
+                .orderId(new OrderId(ORDER_ID))
+                .orderStatus(OrderStatus.PAID)
+                .build();
+        when(processedMessageRepository.findProcessedMessageIds(anyCollection())).thenReturn(Set.of());
+        when(orderRepository.findByIds(anyCollection())).thenReturn(List.of(order));
+        RestaurantApprovalResponse response = approvalResponse(UUID.randomUUID());
+
+        orderApprovalSaga.process(List.of(response, response));
+        assertEquals(OrderStatus.APPROVED, order.getOrderStatus());
+        verify(processedMessageRepository).findProcessedMessageIds(Set.of(UUID.fromString(response.getId())));
+        verify(orderRepository).findByIds(Set.of(ORDER_ID));
+        verify(orderRepository).saveAll(List.of(order));
+        verify(orderTrackingCache).updateAfterCommit(argThat(orders -> orders.contains(order)));
+        verify(processedMessageRepository).saveAll(eq(List.of(UUID.fromString(response.getId()))), any());
+        verify(paymentOutboxHelper, never()).savePaymentOutboxMessages(anyMap(), any());
+
+        orderApprovalSaga.process(List.of(response));
+        verifyNoMoreInteractions(orderRepository, processedMessageRepository);
+    }
+
+    @Test
+    public void testPersistedMessageIsSkipped() {
+        UUID messageId = UUID.randomUUID();
+        when(processedMessageRepository.findProcessedMessageIds(anyCollection())).thenReturn(Set.of(messageId));
+
+        orderApprovalSaga.process(List.of(approvalResponse(messageId)));
+        verifyNoInteractions(orderRepository, paymentOutboxHelper, orderTrackingCache);
+        verify(processedMessageRepository, never()).saveAll(anyCollection(), any());
+    }
+
+    private RestaurantApprovalResponse approvalResponse(UUID messageId) {
+        return RestaurantApprovalResponse.builder()
+                .id(messageId.toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(ORDER_ID.toString())
+                .restaurantId(UUID.randomUUID().toString())
+                .createdAt(Instant.now())
+                .orderApprovalStatus(OrderApprovalStatus.APPROVED)
+                .failureMessages(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.*;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.customer.CustomerExistenceIndex;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.port.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.port.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class OrderBatchCreateHelperTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    private OrderRepository orderRepository;
+    private PaymentOutboxHelper paymentOutboxHelper;
+    private OrderTrackingCache orderTrackingCache;
+    private OrderBatchCreateHelper orderBatchCreateHelper;
+
+    @BeforeEach
+    public void init() {
+        orderRepository = Mockito.mock(OrderRepository.class);
+        paymentOutboxHelper = Mockito.mock(PaymentOutboxHelper.class);
+        orderTrackingCache = Mockito.mock(OrderTrackingCache.class);
+        CustomerRepository customerRepository = Mockito.mock(CustomerRepository.class);
+        RestaurantRepository restaurantRepository = Mockito.mock(RestaurantRepository.class);
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderBatchMaxSize(4);
+        orderServiceConfigData.setCustomerIndexCacheSize(1000L);
+
+        when(customerRepository.findCustomers(anyCollection())).thenReturn(List.of());
+        when(restaurantRepository.findRestaurantInformation(any())).thenReturn(Optional.of(Restaurant.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(PRODUCT_ID), "product_1",
+                        new Money(new BigDecimal("25.00")))))
+                .active(true)
+                .build()));
+        CustomerExistenceIndex customerExistenceIndex = new CustomerExistenceIndex(orderServiceConfigData);
+        customerExistenceIndex.add(CUSTOMER_ID);
+
+        orderBatchCreateHelper = new OrderBatchCreateHelper(new OrderDomainServiceImpl(), orderRepository,
+                customerRepository, restaurantRepository, new OrderDataMapper(), customerExistenceIndex,
+                paymentOutboxHelper, orderTrackingCache,
+                Validation.buildDefaultValidatorFactory().getValidator(), orderServiceConfigData);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMixedBatchSavesOnlyValidOrders() {
+        List<CreateOrderCommand> createOrderCommands = List.of(
+                createOrderCommand(CUSTOMER_ID, new BigDecimal("50.00"), 2),
+                createOrderCommand(UUID.randomUUID(), new BigDecimal("50.00"), 2),
+                createOrderCommand(CUSTOMER_ID, new BigDecimal("60.00"), 2),
+                createOrderCommand(CUSTOMER_ID, new BigDecimal("50.00"), null));
+
+        List<CreateOrderResult> results = orderBatchCreateHelper.persistOrders(createOrderCommands);
+        assertEquals(List.of(0, 1, 2, 3), results.stream().map(CreateOrderResult::getIndex).toList());
+        assertTrue(results.get(0).isCreated());
+        assertEquals(OrderStatus.PENDING, results.get(0).getOrderStatus());
+        assertTrue(results.get(0).getFailureMessages().isEmpty());
+        assertFalse(results.get(1).isCreated());
+        assertTrue(results.get(1).getFailureMessages().get(0).startsWith("Could not find customer"));
+        assertFalse(results.get(2).isCreated());
+        assertTrue(results.get(2).getFailureMessages().get(0).startsWith("Total price"));
+        assertFalse(results.get(3).isCreated());
+        assertTrue(results.get(3).getFailureMessages().get(0).contains("quantity"));
+
+        ArgumentCaptor<List<Order>> savedOrders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(savedOrders.capture());
+        assertEquals(1, savedOrders.getValue().size());
+        Order savedOrder = savedOrders.getValue().get(0);
+        assertEquals(results.get(0).getOrderTrackingId(), savedOrder.getTrackingId().getValue());
+
+        ArgumentCaptor<List<OrderPaymentEventPayload>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(paymentOutboxHelper).savePaymentOutboxMessages(payloads.capture(), eq(OrderStatus.PENDING));
+        assertEquals(List.of(savedOrder.getId().getValue().toString()),
+                payloads.getValue().stream().map(OrderPaymentEventPayload::getOrderId).toList());
+        verify(orderTrackingCache).updateAfterCommit(List.of(savedOrder));
+    }
+
+    @Test
+    public void testBatchWithoutValidOrdersSavesNothing() {
+        List<CreateOrderResult> results = orderBatchCreateHelper.persistOrders(List.of(
+                createOrderCommand(UUID.randomUUID(), new BigDecimal("50.00"), 2)));
+        assertFalse(results.get(0).isCreated());
+        verifyNoInteractions(orderRepository, paymentOutboxHelper, orderTrackingCache);
+    }
+
+    @Test
+    public void testBatchAboveMaxSizeIsRejected() {
+        List<CreateOrderCommand> createOrderCommands = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createOrderCommands.add(createOrderCommand(CUSTOMER_ID, new BigDecimal("50.00"), 2));
+        }
+        assertThrows(OrderDomainException.class, () -> orderBatchCreateHelper.persistOrders(createOrderCommands));
+        verifyNoInteractions(orderRepository, paymentOutboxHelper);
+    }
+
+    private CreateOrderCommand createOrderCommand(UUID customerId, BigDecimal price, Integer quantity) {
+        return CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(RESTAURANT_ID)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .price(price)
+                .items(List.of(OrderItem.builder()
+                        .productId(PRODUCT_ID)
+                        .quantity(quantity)
+                        .price(new BigDecimal("25.00"))
+                        .subTotal(new BigDecimal("50.00"))
+                        .build()))
+                .build();
+    }
+}
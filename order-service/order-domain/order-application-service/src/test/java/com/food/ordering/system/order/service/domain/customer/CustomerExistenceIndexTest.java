@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerExistenceIndexTest {
+
+    private static final long CACHE_SIZE = 100;
+
+    @Test
+    public void testOnlyConfirmedIdsAreContained() {
+        CustomerExistenceIndex customerExistenceIndex = createIndex();
+        UUID customerId = UUID.randomUUID();
+        assertFalse(customerExistenceIndex.contains(customerId));
+        customerExistenceIndex.add(customerId);
+        assertTrue(customerExistenceIndex.contains(customerId));
+        assertFalse(customerExistenceIndex.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testCachedIdsStayBounded() {
+        CustomerExistenceIndex customerExistenceIndex = createIndex();
+        List<UUID> customerIds = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID customerId = UUID.randomUUID();
+            customerIds.add(customerId);
+            customerExistenceIndex.add(customerId);
+        }
+        customerIds.forEach(customerExistenceIndex::contains);
+        assertTrue(customerExistenceIndex.size() <= CACHE_SIZE * 2);
+        assertTrue(customerIds.stream().filter(customerExistenceIndex::contains).count() <= CACHE_SIZE * 2);
+    }
+
+    private CustomerExistenceIndex createIndex() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setCustomerIndexCacheSize(CACHE_SIZE);
+        return new CustomerExistenceIndex(orderServiceConfigData);
+    }
+}
@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.domain.mapper;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderDataMapperTest {
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+
+    @Test
+    public void testSubCentPriceIsRejectedAsDomainError() {
+        assertThrows(OrderDomainException.class, () -> orderDataMapper.createOrderCommandToOrder(
+                createOrderCommand(new BigDecimal("50.005"), new BigDecimal("50.00"))));
+    }
+
+    @Test
+    public void testOverflowingPriceIsRejectedAsDomainError() {
+        assertThrows(OrderDomainException.class, () -> orderDataMapper.createOrderCommandToOrder(
+                createOrderCommand(new BigDecimal("50.00"), new BigDecimal("1e20"))));
+    }
+
+    private CreateOrderCommand createOrderCommand(BigDecimal price, BigDecimal subTotal) {
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .price(price)
+                .items(List.of(OrderItem.builder()
+                        .productId(UUID.randomUUID())
+                        .quantity(1)
+                        .price(new BigDecimal("50.00"))
+                        .subTotal(subTotal)
+                        .build()))
+                .build();
+    }
+}
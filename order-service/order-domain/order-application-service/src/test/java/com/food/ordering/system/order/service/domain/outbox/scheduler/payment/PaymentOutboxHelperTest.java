@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.repository.PaymentOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PaymentOutboxHelperTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private PaymentOutboxRepository paymentOutboxRepository;
+    private PaymentOutboxHelper paymentOutboxHelper;
+
+    @BeforeEach
+    public void init() {
+        paymentOutboxRepository = Mockito.mock(PaymentOutboxRepository.class);
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOutboxPublishTimeoutMs(30000L);
+        orderServiceConfigData.setOutboxMaxAttempts(MAX_ATTEMPTS);
+        orderServiceConfigData.setOutboxRetryBackoffInitialMs(1000L);
+        orderServiceConfigData.setOutboxRetryBackoffMaxMs(4000L);
+        paymentOutboxHelper = new PaymentOutboxHelper(paymentOutboxRepository, orderServiceConfigData,
+                new ObjectMapper());
+    }
+
+    @Test
+    public void testClaimedMessagesAreLeasedForThePublishTimeout() {
+        OrderPaymentOutboxMessage outboxMessage = outboxMessage(0);
+        when(paymentOutboxRepository.findAndLockByOutboxStatus(eq(10), eq(MAX_ATTEMPTS), any(),
+                eq(OutboxStatus.STARTED), eq(OutboxStatus.FAILED))).thenReturn(List.of(outboxMessage));
+
+        assertEquals(List.of(outboxMessage), paymentOutboxHelper.claimOutboxMessagesToPublish(10));
+        ArgumentCaptor<ZonedDateTime> dueAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> nextAttemptAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(paymentOutboxRepository).findAndLockByOutboxStatus(eq(10), eq(MAX_ATTEMPTS), dueAt.capture(),
+                eq(OutboxStatus.STARTED), eq(OutboxStatus.FAILED));
+        verify(paymentOutboxRepository).updateNextAttemptAt(eq(List.of(outboxMessage.getId())),
+                nextAttemptAt.capture());
+        assertEquals(30000L, ChronoUnit.MILLIS.between(dueAt.getValue(), nextAttemptAt.getValue()));
+    }
+
+    @Test
+    public void testFailedMessagesBackOffPerAttempt() {
+        OrderPaymentOutboxMessage firstAttempt = outboxMessage(0);
+        OrderPaymentOutboxMessage fourthAttempt = outboxMessage(3);
+        OrderPaymentOutboxMessage completed = outboxMessage(0);
+
+        paymentOutboxHelper.updateOutboxStatus(Map.of(
+                OutboxStatus.FAILED, List.of(firstAttempt, fourthAttempt),
+                OutboxStatus.COMPLETED, List.of(completed)));
+
+        verify(paymentOutboxRepository).updateOutboxStatus(eq(List.of(completed.getId())),
+                eq(OutboxStatus.COMPLETED), any());
+        ArgumentCaptor<ZonedDateTime> nextAttemptAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> processedAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(paymentOutboxRepository).updateOutboxStatus(eq(List.of(firstAttempt.getId())),
+                eq(OutboxStatus.FAILED), eq(1), nextAttemptAt.capture(), processedAt.capture());
+        verify(paymentOutboxRepository).updateOutboxStatus(eq(List.of(fourthAttempt.getId())),
+                eq(OutboxStatus.FAILED), eq(4), nextAttemptAt.capture(), processedAt.capture());
+        verify(paymentOutboxRepository, times(2)).updateOutboxStatus(any(), any(), anyInt(), any(), any());
+        assertEquals(1000L, ChronoUnit.MILLIS.between(processedAt.getAllValues().get(0),
+                nextAttemptAt.getAllValues().get(0)));
+        assertEquals(4000L, ChronoUnit.MILLIS.between(processedAt.getAllValues().get(1),
+                nextAttemptAt.getAllValues().get(1)));
+    }
+
+    @Test
+    public void testNotSentMessagesAreReleasedWithoutUsingAnAttempt() {
+        OrderPaymentOutboxMessage notSent = outboxMessage(2);
+
+        paymentOutboxHelper.updateOutboxStatus(Map.of(OutboxStatus.STARTED, List.of(notSent)));
+
+        verify(paymentOutboxRepository).updateNextAttemptAt(eq(List.of(notSent.getId())), any());
+        verify(paymentOutboxRepository, never()).updateOutboxStatus(any(), any(), any());
+        verify(paymentOutboxRepository, never()).updateOutboxStatus(any(), any(), anyInt(), any(), any());
+    }
+
+    private OrderPaymentOutboxMessage outboxMessage(int attemptCount) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .attemptCount(attemptCount)
+                .build();
+    }
+}
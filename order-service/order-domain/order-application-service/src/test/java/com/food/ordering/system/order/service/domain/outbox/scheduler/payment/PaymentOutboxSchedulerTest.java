@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class PaymentOutboxSchedulerTest {
+
+    private static final int OUTBOX_BATCH_SIZE = 2;
+
+    private PaymentOutboxHelper paymentOutboxHelper;
+    private PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+    private PaymentOutboxScheduler paymentOutboxScheduler;
+
+    @BeforeEach
+    public void init() {
+        paymentOutboxHelper = Mockito.mock(PaymentOutboxHelper.class);
+        paymentRequestMessagePublisher = Mockito.mock(PaymentRequestMessagePublisher.class);
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOutboxBatchSize(OUTBOX_BATCH_SIZE);
+        orderServiceConfigData.setOutboxPublishTimeoutMs(1000L);
+        paymentOutboxScheduler = new PaymentOutboxScheduler(paymentOutboxHelper, paymentRequestMessagePublisher,
+                orderServiceConfigData);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFullPagesAreDrainedInOneRun() {
+        when(paymentOutboxHelper.claimOutboxMessagesToPublish(OUTBOX_BATCH_SIZE))
+                .thenReturn(outboxMessages(2), outboxMessages(2), outboxMessages(1));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, BiConsumer.class).accept(invocation.getArgument(0), OutboxStatus.COMPLETED);
+            return null;
+        }).when(paymentRequestMessagePublisher).publish(any(), any());
+
+        paymentOutboxScheduler.processOutboxMessage();
+        verify(paymentOutboxHelper, times(3)).claimOutboxMessagesToPublish(OUTBOX_BATCH_SIZE);
+        verify(paymentRequestMessagePublisher, times(5)).publish(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDrainingStopsAtFailedPage() {
+        when(paymentOutboxHelper.claimOutboxMessagesToPublish(OUTBOX_BATCH_SIZE))
+                .thenReturn(outboxMessages(2));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, BiConsumer.class).accept(invocation.getArgument(0), OutboxStatus.FAILED);
+            return null;
+        }).when(paymentRequestMessagePublisher).publish(any(), any());
+
+        paymentOutboxScheduler.processOutboxMessage();
+        verify(paymentOutboxHelper, times(1)).claimOutboxMessagesToPublish(OUTBOX_BATCH_SIZE);
+    }
+
+    private List<OrderPaymentOutboxMessage> outboxMessages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> OrderPaymentOutboxMessage.builder().id(UUID.randomUUID()).build())
+                .collect(Collectors.toList());
+    }
+}
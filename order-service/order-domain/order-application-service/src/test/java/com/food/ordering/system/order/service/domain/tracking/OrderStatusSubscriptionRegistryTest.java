@@ -0,0 +1,105 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.port.input.service.OrderStatusSubscriber;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderStatusSubscriptionRegistryTest {
+
+    private OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderStatusPushThreads(2);
+        orderServiceConfigData.setOrderStatusPushQueueCapacity(10);
+        orderStatusSubscriptionRegistry = new OrderStatusSubscriptionRegistry(orderServiceConfigData);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        orderStatusSubscriptionRegistry.shutdown();
+    }
+
+    @Test
+    public void testPublishReachesOnlySubscribersOfTrackingId() throws InterruptedException {
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        CountDownLatch received = new CountDownLatch(2);
+        List<TrackOrderResponse> first = new CopyOnWriteArrayList<>();
+        List<TrackOrderResponse> second = new CopyOnWriteArrayList<>();
+        OrderStatusSubscriber firstSubscriber = response -> {
+            first.add(response);
+            received.countDown();
+        };
+        OrderStatusSubscriber secondSubscriber = response -> {
+            second.add(response);
+            received.countDown();
+        };
+        orderStatusSubscriptionRegistry.subscribe(trackingId, firstSubscriber);
+        orderStatusSubscriptionRegistry.subscribe(trackingId, secondSubscriber);
+        assertEquals(1, orderStatusSubscriptionRegistry.getSubscribedOrderCount());
+
+        TrackOrderResponse paid = trackOrderResponse(trackingId.getValue(), OrderStatus.PAID);
+        orderStatusSubscriptionRegistry.publish(List.of(paid,
+                trackOrderResponse(UUID.randomUUID(), OrderStatus.APPROVED)));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(paid), first);
+        assertEquals(List.of(paid), second);
+
+        orderStatusSubscriptionRegistry.unsubscribe(trackingId, firstSubscriber);
+        assertEquals(1, orderStatusSubscriptionRegistry.getSubscribedOrderCount());
+        orderStatusSubscriptionRegistry.unsubscribe(trackingId, secondSubscriber);
+        assertEquals(0, orderStatusSubscriptionRegistry.getSubscribedOrderCount());
+    }
+
+    @Test
+    public void testPushIsDroppedWhenQueueIsFull() throws InterruptedException {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderStatusPushThreads(1);
+        orderServiceConfigData.setOrderStatusPushQueueCapacity(1);
+        OrderStatusSubscriptionRegistry singleThreadRegistry =
+                new OrderStatusSubscriptionRegistry(orderServiceConfigData);
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> pushThreads = new CopyOnWriteArrayList<>();
+        singleThreadRegistry.subscribe(trackingId, response -> {
+            pushThreads.add(Thread.currentThread());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            singleThreadRegistry.publish(List.of(trackOrderResponse(trackingId.getValue(), OrderStatus.PAID)));
+            singleThreadRegistry.publish(List.of(trackOrderResponse(trackingId.getValue(), OrderStatus.APPROVED)));
+            singleThreadRegistry.publish(List.of(trackOrderResponse(trackingId.getValue(), OrderStatus.CANCELLING)));
+            assertEquals(1, singleThreadRegistry.getDroppedPushCount());
+        } finally {
+            release.countDown();
+            singleThreadRegistry.shutdown();
+        }
+        assertFalse(pushThreads.contains(Thread.currentThread()));
+    }
+
+    private TrackOrderResponse trackOrderResponse(UUID trackingId, OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(trackingId)
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
@@ -62,12 +62,11 @@ public class OrderDomainServiceImpl implements OrderDomainService {
     }
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        order.getItems().forEach(orderItem -> restaurant.getProducts().forEach(restaurantProduct -> {
+        order.getItems().forEach(orderItem -> {
             Product currentProduct = orderItem.getProduct();
-            if (currentProduct.equals(restaurantProduct)) {
-                currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(),
-                        restaurantProduct.getPrice());
-            }
-        }));
+            restaurant.findProduct(currentProduct.getId()).ifPresent(restaurantProduct ->
+                    currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(),
+                            restaurantProduct.getPrice()));
+        });
     }
 }
@@ -4,4 +4,11 @@ import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 
 public class Customer extends AggregateRoot<CustomerId> {
+
+    public Customer() {
+    }
+
+    public Customer(CustomerId customerId) {
+        super.setId(customerId);
+    }
 }
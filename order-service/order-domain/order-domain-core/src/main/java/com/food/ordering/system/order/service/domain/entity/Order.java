@@ -91,14 +91,20 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     private void validateItemsPrice() {
-       Money orderItemTotal = items.stream().map(orderItem -> {
-                    validateItemsPrice(orderItem);
-                    return orderItem.getSubTotal();
-                }).reduce(Money.ZERO, Money::add);
+       long orderItemTotal = 0L;
+       try {
+           for (OrderItem orderItem : items) {
+               validateItemsPrice(orderItem);
+               orderItemTotal = Math.addExact(orderItemTotal, orderItem.getSubTotal().getMinorUnits());
+           }
+       } catch (ArithmeticException e) {
+           throw new OrderDomainException("Order items total price is out of range!", e);
+       }
 
-       if (!price.equals(orderItemTotal)) {
+       if (price.getMinorUnits() != orderItemTotal) {
            throw new OrderDomainException("Total price: "+ price.getAmount()
-                   +" is not equal to Order items total price: " + orderItemTotal.getAmount() +"!");
+                   +" is not equal to Order items total price: " +
+                   Money.ofMinorUnits(orderItemTotal).getAmount() +"!");
        }
     }
 
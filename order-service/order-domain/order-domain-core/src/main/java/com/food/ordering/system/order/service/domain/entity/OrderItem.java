@@ -20,7 +20,7 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     boolean isPriceValid() {
         return price.isGreaterThanZero() &&
                 price.equals(product.getPrice()) &&
-                price.multiply(quantity).equals(subTotal);
+                Math.multiplyExact(price.getMinorUnits(), quantity) == subTotal.getMinorUnits();
     }
 
     private OrderItem(Builder builder) {
@@ -1,17 +1,24 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
+    private final Map<ProductId, Product> productsById;
     private boolean active;
 
     private Restaurant(Builder builder) {
         super.setId(builder.restaurantId);
         products = builder.products;
+        productsById = indexProducts(builder.products);
         active = builder.active;
     }
 
@@ -19,10 +26,23 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         return products;
     }
 
+    public Optional<Product> findProduct(ProductId productId) {
+        return Optional.ofNullable(productsById.get(productId));
+    }
+
     public boolean isActive() {
         return active;
     }
 
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        if (products == null) {
+            return Collections.emptyMap();
+        }
+        Map<ProductId, Product> index = HashMap.newHashMap(products.size());
+        products.forEach(product -> index.put(product.getId(), product));
+        return Collections.unmodifiableMap(index);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
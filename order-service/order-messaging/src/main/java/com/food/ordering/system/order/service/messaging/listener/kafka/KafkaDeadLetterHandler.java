@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.processor.DeadLetterHandler;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class KafkaDeadLetterHandler implements DeadLetterHandler {
+
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+
+    public KafkaDeadLetterHandler(KafkaProducer<String, SpecificRecordBase> kafkaProducer) {
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    @Override
+    public void handle(String deadLetterTopic, String key, Object message, Exception cause) {
+        CompletableFuture<SendResult<String, SpecificRecordBase>> callback = new CompletableFuture<>();
+        kafkaProducer.send(deadLetterTopic, key, (SpecificRecordBase) message, callback);
+        // the offset is committed past the record afterwards, so the send has to be acknowledged first
+        callback.join();
+    }
+}
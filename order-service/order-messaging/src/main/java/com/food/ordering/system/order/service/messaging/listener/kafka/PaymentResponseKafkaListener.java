@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.ManualCommitKafkaConsumer;
+import com.food.ordering.system.kafka.consumer.processor.KeyedBatchProcessor;
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.order.service.domain.port.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PaymentResponseKafkaListener implements ManualCommitKafkaConsumer<PaymentResponseAvroModel> {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyedBatchProcessor keyedBatchProcessor;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        KeyedBatchProcessor keyedBatchProcessor,
+                                        OrderServiceConfigData orderServiceConfigData) {
+        this.paymentResponseMessageListener = paymentResponseMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyedBatchProcessor = keyedBatchProcessor;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
+            containerFactory = "manualCommitKafkaListenerContainerFactory",
+            topics = "${order-service.payment-response-topic-name}")
+    public void receive(@Payload List<PaymentResponseAvroModel> messages,
+                        @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                        @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Consumer<?, ?> consumer) {
+        log.info("{} number of payment responses received with keys:{}, partitions:{} and offsets: {}",
+                messages.size(), keys, partitions, offsets);
+        keyedBatchProcessor.process(orderServiceConfigData.getPaymentResponseTopicName(),
+                messages, partitions, offsets,
+                message -> UuidConverter.fromAvro(message.getOrderId()).toString(),
+                batch -> paymentResponseMessageListener.paymentResponsesReceived(batch.stream()
+                        .map(orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+                        .collect(Collectors.toList())),
+                consumer);
+    }
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.ManualCommitKafkaConsumer;
+import com.food.ordering.system.kafka.consumer.processor.KeyedBatchProcessor;
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.port.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class RestaurantApprovalResponseKafkaListener
+        implements ManualCommitKafkaConsumer<RestaurantApprovalResponseAvroModel> {
+
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyedBatchProcessor keyedBatchProcessor;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener
+                                                           restaurantApprovalResponseMessageListener,
+                                                   OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   KeyedBatchProcessor keyedBatchProcessor,
+                                                   OrderServiceConfigData orderServiceConfigData) {
+        this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyedBatchProcessor = keyedBatchProcessor;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
+            containerFactory = "manualCommitKafkaListenerContainerFactory",
+            topics = "${order-service.restaurant-approval-response-topic-name}")
+    public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
+                        @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                        @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Consumer<?, ?> consumer) {
+        log.info("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
+                messages.size(), keys, partitions, offsets);
+        keyedBatchProcessor.process(orderServiceConfigData.getRestaurantApprovalResponseTopicName(),
+                messages, partitions, offsets,
+                message -> UuidConverter.fromAvro(message.getOrderId()).toString(),
+                batch -> restaurantApprovalResponseMessageListener.approvalResponsesReceived(batch.stream()
+                        .map(orderMessagingDataMapper::approvalResponseAvroModelToApprovalResponse)
+                        .collect(Collectors.toList())),
+                consumer);
+    }
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.messaging.mapper;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidConverter;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderMessagingDataMapper {
+
+    public PaymentRequestAvroModel orderPaymentEventToPaymentRequestAvroModel(UUID outboxId,
+                                                                              UUID sagaId,
+                                                                              OrderPaymentEventPayload
+                                                                                      orderPaymentEventPayload) {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(outboxId))
+                .setSagaId(UuidConverter.toAvro(sagaId))
+                .setCustomerId(UuidConverter.toAvro(orderPaymentEventPayload.getCustomerId()))
+                .setOrderId(UuidConverter.toAvro(orderPaymentEventPayload.getOrderId()))
+                .setPrice(orderPaymentEventPayload.getPrice())
+                .setCreatedAt(orderPaymentEventPayload.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
+                .build();
+    }
+
+    public RestaurantApprovalRequestAvroModel orderApprovalEventToRestaurantApprovalRequestAvroModel(
+            UUID outboxId,
+            UUID sagaId,
+            OrderApprovalEventPayload orderApprovalEventPayload) {
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(UuidConverter.toAvro(outboxId))
+                .setSagaId(UuidConverter.toAvro(sagaId))
+                .setOrderId(UuidConverter.toAvro(orderApprovalEventPayload.getOrderId()))
+                .setRestaurantId(UuidConverter.toAvro(orderApprovalEventPayload.getRestaurantId()))
+                .setRestaurantOrderStatus(RestaurantOrderStatus
+                        .valueOf(orderApprovalEventPayload.getRestaurantOrderStatus()))
+                .setProducts(orderApprovalEventPayload.getProducts().stream().map(orderApprovalEventProduct ->
+                        Product.newBuilder()
+                                .setId(UuidConverter.toAvro(orderApprovalEventProduct.getId()))
+                                .setQuantity(orderApprovalEventProduct.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .setPrice(orderApprovalEventPayload.getPrice())
+                .setCreatedAt(orderApprovalEventPayload.getCreatedAt().toInstant())
+                .build();
+    }
+
+    public CustomerModel customerAvroModeltoCustomerModel(CustomerAvroModel customerAvroModel) {
+        return CustomerModel.builder()
+                .id(customerAvroModel.getId().toString())
+                .username(customerAvroModel.getUsername())
+                .firstName(customerAvroModel.getFirstName())
+                .lastName(customerAvroModel.getLastName())
+                .build();
+    }
+
+    public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel
+                                                                             paymentResponseAvroModel) {
+        return PaymentResponse.builder()
+                .id(UuidConverter.fromAvro(paymentResponseAvroModel.getId()).toString())
+                .sagaId(UuidConverter.fromAvro(paymentResponseAvroModel.getSagaId()).toString())
+                .paymentId(UuidConverter.fromAvro(paymentResponseAvroModel.getPaymentId()).toString())
+                .customerId(UuidConverter.fromAvro(paymentResponseAvroModel.getCustomerId()).toString())
+                .orderId(UuidConverter.fromAvro(paymentResponseAvroModel.getOrderId()).toString())
+                .price(paymentResponseAvroModel.getPrice())
+                .createdAt(paymentResponseAvroModel.getCreatedAt())
+                .paymentStatus(com.food.ordering.system.domain.valueobject.PaymentStatus.valueOf(
+                        paymentResponseAvroModel.getPaymentStatus().name()))
+                .failureMessages(paymentResponseAvroModel.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse(
+            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
+        return RestaurantApprovalResponse.builder()
+                .id(UuidConverter.fromAvro(restaurantApprovalResponseAvroModel.getId()).toString())
+                .sagaId(UuidConverter.fromAvro(restaurantApprovalResponseAvroModel.getSagaId()).toString())
+                .restaurantId(UuidConverter.fromAvro(restaurantApprovalResponseAvroModel.getRestaurantId()).toString())
+                .orderId(UuidConverter.fromAvro(restaurantApprovalResponseAvroModel.getOrderId()).toString())
+                .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
+                .orderApprovalStatus(com.food.ordering.system.domain.valueobject.OrderApprovalStatus.valueOf(
+                        restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
+                .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the number of outbox messages that are sent but not yet acknowledged by Kafka. A permit is taken
+ * without waiting; when none is left the message stays in the outbox and is picked up by the next relay run.
+ */
+@Component
+public class KafkaInFlightLimiter {
+
+    private final Semaphore permits;
+
+    public KafkaInFlightLimiter(OrderServiceConfigData orderServiceConfigData) {
+        this.permits = new Semaphore(orderServiceConfigData.getPublisherMaxInFlight());
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
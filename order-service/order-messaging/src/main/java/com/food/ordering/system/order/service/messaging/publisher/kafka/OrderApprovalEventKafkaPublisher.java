@@ -0,0 +1,74 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderApprovalEventKafkaPublisher implements RestaurantApprovalRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderKafkaMessageHelper orderKafkaMessageHelper;
+    private final KafkaInFlightLimiter kafkaInFlightLimiter;
+
+    public OrderApprovalEventKafkaPublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                            KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
+                                            OrderServiceConfigData orderServiceConfigData,
+                                            OrderKafkaMessageHelper orderKafkaMessageHelper,
+                                            KafkaInFlightLimiter kafkaInFlightLimiter) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.kafkaProducer = kafkaProducer;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaInFlightLimiter = kafkaInFlightLimiter;
+    }
+
+    @Override
+    public void publish(OrderApprovalOutboxMessage orderApprovalOutboxMessage,
+                        BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = orderApprovalOutboxMessage.getSagaId().toString();
+        if (!kafkaInFlightLimiter.tryAcquire()) {
+            log.debug("Too many in-flight messages, OrderApprovalOutboxMessage with outbox id: {} is left for " +
+                    "the next run", orderApprovalOutboxMessage.getId());
+            outboxCallback.accept(orderApprovalOutboxMessage, OutboxStatus.STARTED);
+            return;
+        }
+        try {
+            OrderApprovalEventPayload orderApprovalEventPayload = orderKafkaMessageHelper.getOrderEventPayload(
+                    orderApprovalOutboxMessage.getPayload(), OrderApprovalEventPayload.class);
+            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
+                    .orderApprovalEventToRestaurantApprovalRequestAvroModel(orderApprovalOutboxMessage.getId(),
+                            orderApprovalOutboxMessage.getSagaId(), orderApprovalEventPayload);
+            CompletableFuture<SendResult<String, RestaurantApprovalRequestAvroModel>> callback =
+                    orderKafkaMessageHelper.getKafkaCallback(
+                            orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                            orderApprovalOutboxMessage,
+                            orderApprovalEventPayload.getOrderId(),
+                            outboxCallback);
+            callback.whenComplete((result, ex) -> kafkaInFlightLimiter.release());
+            kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                    sagaId,
+                    restaurantApprovalRequestAvroModel,
+                    callback);
+        } catch (Exception e) {
+            kafkaInFlightLimiter.release();
+            log.error("Error while sending OrderApprovalOutboxMessage to kafka with outbox id: {} and saga id: {}",
+                    orderApprovalOutboxMessage.getId(), sagaId, e);
+            outboxCallback.accept(orderApprovalOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderKafkaMessageHelper {
+
+    private final ObjectMapper objectMapper;
+
+    public OrderKafkaMessageHelper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T getOrderEventPayload(String payload, Class<T> outputType) {
+        try {
+            return objectMapper.readValue(payload, outputType);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read {} object!", outputType.getName(), e);
+            throw new OrderDomainException("Could not read " + outputType.getName() + " object!", e);
+        }
+    }
+
+    public <K, V, U> CompletableFuture<SendResult<K, V>> getKafkaCallback(String topicName,
+                                                                          U outboxMessage,
+                                                                          String orderId,
+                                                                          BiConsumer<U, OutboxStatus> outboxCallback) {
+        CompletableFuture<SendResult<K, V>> callback = new CompletableFuture<>();
+        callback.whenComplete((result, ex) -> {
+            if (ex != null) {
+                // KafkaProducer already logged the failed send
+                outboxCallback.accept(outboxMessage, OutboxStatus.FAILED);
+            } else {
+                log.debug("Received successful response from Kafka for order id: {} Topic: {} Partition: {} " +
+                                "Offset: {}", orderId, result.getRecordMetadata().topic(),
+                        result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+                outboxCallback.accept(outboxMessage, OutboxStatus.COMPLETED);
+            }
+        });
+        return callback;
+    }
+}
@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.port.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderPaymentEventKafkaPublisher implements PaymentRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderKafkaMessageHelper orderKafkaMessageHelper;
+    private final KafkaInFlightLimiter kafkaInFlightLimiter;
+
+    public OrderPaymentEventKafkaPublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                           KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer,
+                                           OrderServiceConfigData orderServiceConfigData,
+                                           OrderKafkaMessageHelper orderKafkaMessageHelper,
+                                           KafkaInFlightLimiter kafkaInFlightLimiter) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.kafkaProducer = kafkaProducer;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaInFlightLimiter = kafkaInFlightLimiter;
+    }
+
+    @Override
+    public void publish(OrderPaymentOutboxMessage orderPaymentOutboxMessage,
+                        BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = orderPaymentOutboxMessage.getSagaId().toString();
+        if (!kafkaInFlightLimiter.tryAcquire()) {
+            log.debug("Too many in-flight messages, OrderPaymentOutboxMessage with outbox id: {} is left for " +
+                    "the next run", orderPaymentOutboxMessage.getId());
+            outboxCallback.accept(orderPaymentOutboxMessage, OutboxStatus.STARTED);
+            return;
+        }
+        try {
+            OrderPaymentEventPayload orderPaymentEventPayload = orderKafkaMessageHelper.getOrderEventPayload(
+                    orderPaymentOutboxMessage.getPayload(), OrderPaymentEventPayload.class);
+            PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
+                    .orderPaymentEventToPaymentRequestAvroModel(orderPaymentOutboxMessage.getId(),
+                            orderPaymentOutboxMessage.getSagaId(), orderPaymentEventPayload);
+            CompletableFuture<SendResult<String, PaymentRequestAvroModel>> callback =
+                    orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentRequestTopicName(),
+                            orderPaymentOutboxMessage,
+                            orderPaymentEventPayload.getOrderId(),
+                            outboxCallback);
+            callback.whenComplete((result, ex) -> kafkaInFlightLimiter.release());
+            kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
+                    sagaId,
+                    paymentRequestAvroModel,
+                    callback);
+        } catch (Exception e) {
+            kafkaInFlightLimiter.release();
+            log.error("Error while sending OrderPaymentOutboxMessage to kafka with outbox id: {} and saga id: {}",
+                    orderPaymentOutboxMessage.getId(), sagaId, e);
+            outboxCallback.accept(orderPaymentOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+}